@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class AndCondition implements Condition {
+    private final List<Condition> conditions;
+
+    public AndCondition(Condition... conditions) {
+        this(Arrays.asList(conditions));
+    }
+
+    public AndCondition(List<Condition> conditions) {
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("And condition requires at least one condition.");
+        }
+        this.conditions = Collections.unmodifiableList(new ArrayList<>(conditions));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * {@code column BETWEEN low AND high}, both bounds inclusive.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class BetweenCondition implements Condition {
+    private final String column;
+
+    private final Object low;
+
+    private final Object high;
+
+    public BetweenCondition(String column, Object low, Object high) {
+        this.column = column;
+        this.low = low;
+        this.high = high;
+    }
+}
@@ -16,9 +16,13 @@
 
 package io.github.openfacade.table.api;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.ToString;
 
 @Getter
+@ToString
+@EqualsAndHashCode
 public class ComparisonCondition implements Condition {
     private final String column;
 
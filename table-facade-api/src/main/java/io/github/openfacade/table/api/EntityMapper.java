@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.api;
+
+import java.util.List;
+
+/**
+ * Reflection-free mapping between an entity and its table columns. Implementations are generated at
+ * compile time by the table-facade-processor module for every class annotated with
+ * {@link io.github.openfacade.table.api.anno.Table}, and are looked up through {@link EntityMappers}.
+ *
+ * @param <T> entity type
+ */
+public interface EntityMapper<T> {
+    Class<T> entityType();
+
+    String tableName();
+
+    /**
+     * Column names in declaration order, the index of a column in this list is the index used by
+     * {@link #columnType(int)}, {@link #get(Object, int)} and {@link #set(Object, int, Object)}.
+     */
+    List<String> columnNames();
+
+    Class<?> columnType(int index);
+
+    T newInstance();
+
+    Object get(T entity, int index);
+
+    void set(T entity, int index, Object value);
+}
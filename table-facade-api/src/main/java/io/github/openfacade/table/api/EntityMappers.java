@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.api;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class EntityMappers {
+    public static final String MAPPER_SUFFIX = "TableMapper";
+
+    /**
+     * Name of the generated mapper class, e.g. {@code com.example.UserTableMapper} for
+     * {@code com.example.User} and {@code com.example.Outer_InnerTableMapper} for a nested class.
+     */
+    public static String mapperClassName(@NotNull Class<?> type) {
+        String name = type.getName();
+        int lastDot = name.lastIndexOf('.');
+        String packagePrefix = lastDot < 0 ? "" : name.substring(0, lastDot + 1);
+        return packagePrefix + name.substring(lastDot + 1).replace('$', '_') + MAPPER_SUFFIX;
+    }
+
+    /**
+     * Returns the generated mapper of the given entity type, or {@code null} when the annotation processor
+     * did not run for it.
+     */
+    @SuppressWarnings("unchecked")
+    public static @Nullable <T> EntityMapper<T> find(@NotNull Class<T> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        Class<?> mapperClass;
+        try {
+            mapperClass = Class.forName(mapperClassName(type), true, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        if (!EntityMapper.class.isAssignableFrom(mapperClass)) {
+            return null;
+        }
+        try {
+            EntityMapper<?> mapper = (EntityMapper<?>) mapperClass.getDeclaredConstructor().newInstance();
+            if (mapper.entityType() != type) {
+                return null;
+            }
+            return (EntityMapper<T>) mapper;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create generated mapper " + mapperClass.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.api;
+
+import io.github.openfacade.table.api.anno.Column;
+import io.github.openfacade.table.api.anno.Table;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * The mapping rules shared by every engine and by the annotation processor: which annotations name tables and
+ * columns, which methods access a column, and which columns a row binds. Spring Data's {@code @Table} and
+ * {@code @Column} are recognised by name, so no Spring dependency is needed.
+ */
+public final class EntityMapping {
+    public static final String SPRING_DATA_TABLE = "org.springframework.data.relational.core.mapping.Table";
+
+    public static final String SPRING_DATA_COLUMN = "org.springframework.data.relational.core.mapping.Column";
+
+    private EntityMapping() {
+    }
+
+    public static @Nullable String tableName(@NotNull Class<?> type) {
+        Table table = type.getAnnotation(Table.class);
+        if (table != null) {
+            return table.name();
+        }
+        Annotation annotation = annotation(type, SPRING_DATA_TABLE);
+        if (annotation != null) {
+            String value = attribute(annotation, "value");
+            return value.isEmpty() ? attribute(annotation, "name") : value;
+        }
+        return null;
+    }
+
+    /**
+     * @return the column the field is mapped to, or {@code null} when it is not a column
+     */
+    public static @Nullable String columnName(@NotNull Field field) {
+        Column column = field.getAnnotation(Column.class);
+        if (column != null) {
+            return column.name();
+        }
+        Annotation annotation = annotation(field, SPRING_DATA_COLUMN);
+        return annotation == null ? null : attribute(annotation, "value");
+    }
+
+    /**
+     * The public {@code is} getter of a boolean field, or else its {@code get} getter.
+     */
+    public static @NotNull Method getter(@NotNull Class<?> type, @NotNull Field field) {
+        String name = getterName(field.getName(), field.getType() == boolean.class, field.getType() == Boolean.class,
+                methodName -> hasGetter(type, methodName));
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("No get method for field " + field.getName(), e);
+        }
+    }
+
+    /**
+     * Name of a field's getter: {@code is} for a boolean field that has an {@code is} getter, else {@code get}.
+     * When neither exists, e.g. while an annotation processor runs, the bean convention applies and only
+     * primitive {@code boolean} gets {@code is}.
+     */
+    public static @NotNull String getterName(@NotNull String fieldName, boolean primitiveBoolean,
+                                             boolean boxedBoolean, @NotNull Predicate<String> exists) {
+        String suffix = capitalize(fieldName);
+        if (primitiveBoolean || boxedBoolean) {
+            if (exists.test("is" + suffix)) {
+                return "is" + suffix;
+            }
+            if (primitiveBoolean && !exists.test("get" + suffix)) {
+                return "is" + suffix;
+            }
+        }
+        return "get" + suffix;
+    }
+
+    private static boolean hasGetter(Class<?> type, String name) {
+        try {
+            type.getMethod(name);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public static @NotNull Method setter(@NotNull Class<?> type, @NotNull Field field) {
+        try {
+            return type.getMethod("set" + capitalize(field.getName()), field.getType());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("No set method for field " + field.getName(), e);
+        }
+    }
+
+    /**
+     * Columns with a value in the row, an insert binds only these so the others keep their defaults.
+     */
+    public static BitSet nonNullShape(Object[] values) {
+        BitSet shape = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                shape.set(i);
+            }
+        }
+        return shape;
+    }
+
+    public static List<String> columnNames(List<String> columnNames, BitSet shape) {
+        List<String> names = new ArrayList<>(shape.cardinality());
+        for (int i = shape.nextSetBit(0); i >= 0; i = shape.nextSetBit(i + 1)) {
+            names.add(columnNames.get(i));
+        }
+        return names;
+    }
+
+    private static Annotation annotation(AnnotatedElement element, String annotationType) {
+        for (Annotation annotation : element.getAnnotations()) {
+            if (annotation.annotationType().getName().equals(annotationType)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static String attribute(Annotation annotation, String name) {
+        try {
+            return (String) annotation.annotationType().getMethod(name).invoke(annotation);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read " + name + " of " + annotation.annotationType().getName(), e);
+        }
+    }
+
+    private static String capitalize(String name) {
+        return name.substring(0, 1).toUpperCase(Locale.US) + name.substring(1);
+    }
+}
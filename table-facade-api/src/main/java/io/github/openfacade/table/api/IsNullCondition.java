@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.api;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class IsNullCondition implements Condition {
+    private final String column;
+
+    /**
+     * {@code IS NOT NULL} instead of {@code IS NULL}.
+     */
+    private final boolean negated;
+
+    public IsNullCondition(String column) {
+        this(column, false);
+    }
+
+    public IsNullCondition(String column, boolean negated) {
+        this.column = column;
+        this.negated = negated;
+    }
+}
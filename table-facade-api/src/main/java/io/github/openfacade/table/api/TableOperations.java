@@ -16,7 +16,48 @@
 
 package io.github.openfacade.table.api;
 
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Blocking table operations. The entity operations are optional, implementations that do not support them
+ * inherit the defaults, which throw {@link UnsupportedOperationException}.
+ */
 public interface TableOperations {
+    default <T> T insert(T object) throws TableException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Inserts the objects with JDBC batches in one transaction, returns the number of inserted rows.
+     */
+    default <T> Long insertAll(Collection<T> objects) throws TableException {
+        throw new UnsupportedOperationException();
+    }
+
+    default <T> Long update(Condition condition, Object[] pairs, Class<T> type) throws TableException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the first row matching the condition, or {@code null} when there is none.
+     */
+    default <T> T find(Condition condition, Class<T> type) throws TableException {
+        throw new UnsupportedOperationException();
+    }
+
+    default <T> List<T> findAll(Class<T> type) throws TableException {
+        throw new UnsupportedOperationException();
+    }
+
+    default <T> List<T> findAll(Condition condition, Class<T> type) throws TableException {
+        throw new UnsupportedOperationException();
+    }
+
+    default <T> Long delete(Condition condition, Class<T> type) throws TableException {
+        throw new UnsupportedOperationException();
+    }
+
     <T> Long deleteAll(Class<T> type) throws TableException;
 
     Long deleteAll(String tableName) throws TableException;
@@ -0,0 +1,566 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.common;
+
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.api.TableException;
+import io.github.openfacade.table.api.TableOperations;
+import io.github.openfacade.table.sql.common.LruCache;
+import io.github.openfacade.table.sql.common.SqlCondition;
+import io.github.openfacade.table.sql.mysql.MysqlSqlUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.sql.DataSource;
+
+/**
+ * Blocking engine shared by the JDBC dialects. Statement text is rendered once per entity, operation and
+ * column shape, so the same SQL string reaches the driver every time and its prepared statement cache can
+ * reuse the parsed statement. Bulk writes use a single statement per column shape with
+ * {@code addBatch}/{@code executeBatch}, in the plain {@code INSERT ... VALUES (?, ...)} form drivers know how to
+ * rewrite into multi-row statements.
+ */
+public abstract class JdbcBaseTableOperations implements TableOperations {
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final int MAX_CACHED_STATEMENTS = 4096;
+
+    protected final DataSource dataSource;
+
+    private final Map<Class<?>, JdbcTableMetadata> metadataMap = new ConcurrentHashMap<>();
+
+    private final LruCache<List<Object>, String> sqlCache = new LruCache<>(MAX_CACHED_STATEMENTS);
+
+    private final ThreadLocal<JdbcSession> boundSession = new ThreadLocal<>();
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    protected JdbcBaseTableOperations(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Rows added to a JDBC batch before it is executed.
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public JdbcTableMetadata metadata(Class<?> type) throws TableException {
+        JdbcTableMetadata metadata = metadataMap.get(type);
+        if (metadata != null) {
+            return metadata;
+        }
+        try {
+            return metadataMap.computeIfAbsent(type, JdbcTableMetadata::parse);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new TableException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the cached statement text for the key, rendering it on first use.
+     */
+    protected String sql(Supplier<String> renderer, Object... key) {
+        List<Object> cacheKey = Arrays.asList(key);
+        String sql = sqlCache.get(cacheKey);
+        if (sql == null) {
+            sql = renderer.get();
+            sqlCache.putIfAbsent(cacheKey, sql);
+        }
+        return sql;
+    }
+
+    public interface TableWork<R> {
+        R run(JdbcBaseTableOperations operations) throws TableException;
+    }
+
+    /**
+     * Runs the work with one connection bound to the current thread: every operation it calls on this instance
+     * uses that connection and reuses the statements already prepared on it. Nested calls join the outer unit
+     * of work.
+     */
+    public <R> R withConnection(TableWork<R> work) throws TableException {
+        if (boundSession.get() != null) {
+            return work.run(this);
+        }
+        JdbcSession session = bind();
+        try {
+            return work.run(this);
+        } finally {
+            unbind(session);
+        }
+    }
+
+    /**
+     * Like {@link #withConnection}, with all operations of the work in one transaction that commits when the work
+     * returns and rolls back when it throws.
+     */
+    public <R> R withTransaction(TableWork<R> work) throws TableException {
+        return withConnection(operations -> {
+            Connection connection = boundSession.get().getConnection();
+            try {
+                return inTransaction(connection, () -> work.run(operations));
+            } catch (SQLException e) {
+                throw new TableException("Failed to run transaction", e);
+            }
+        });
+    }
+
+    protected interface ConnectionWork<R> {
+        R run(Connection connection) throws SQLException, TableException;
+    }
+
+    /**
+     * Runs dialect specific work on the connection an operation would use, the bound one inside a unit of work.
+     */
+    protected <R> R onConnection(ConnectionWork<R> work) throws SQLException, TableException {
+        try (JdbcSession session = session()) {
+            return work.run(session.getConnection());
+        }
+    }
+
+    /**
+     * The session for one operation, the bound one inside a unit of work and a fresh connection otherwise.
+     */
+    private JdbcSession session() throws SQLException {
+        JdbcSession session = boundSession.get();
+        return session != null ? session : new JdbcSession(dataSource.getConnection(), false);
+    }
+
+    private JdbcSession bind() throws TableException {
+        try {
+            JdbcSession session = new JdbcSession(dataSource.getConnection(), true);
+            boundSession.set(session);
+            return session;
+        } catch (SQLException e) {
+            throw new TableException("Failed to get connection", e);
+        }
+    }
+
+    private void unbind(JdbcSession session) throws TableException {
+        boundSession.remove();
+        try {
+            session.release();
+        } catch (SQLException e) {
+            throw new TableException("Failed to release connection", e);
+        }
+    }
+
+    @Override
+    public <T> T insert(T object) throws TableException {
+        JdbcTableMetadata metadata = metadata(object.getClass());
+        Object[] values = metadata.columnValues(object);
+        BitSet shape = JdbcTableMetadata.nonNullShape(values);
+        if (shape.isEmpty()) {
+            throw new IllegalArgumentException("Cannot insert an object with all fields as null.");
+        }
+        String sql = sql(() -> MysqlSqlUtil.insert(metadata.getTableName(), metadata.columnNames(shape)),
+                object.getClass(), "insert", shape);
+
+        try (JdbcSession session = session()) {
+            PreparedStatement statement = session.prepare(sql);
+            bindShape(statement, values, shape);
+            statement.executeUpdate();
+            return object;
+        } catch (SQLException e) {
+            throw new TableException("Failed to insert into table " + metadata.getTableName(), e);
+        }
+    }
+
+    @Override
+    public <T> Long insertAll(Collection<T> objects) throws TableException {
+        return writeAll(objects, (metadata, shape) -> MysqlSqlUtil.insert(metadata.getTableName(), metadata.columnNames(shape)),
+                "insert");
+    }
+
+    /**
+     * Batched insert where rows whose key already exists get {@code updateColumns} overwritten with the new
+     * values, returns the affected row count reported by the driver.
+     */
+    public <T> Long upsertAll(Collection<T> objects, List<String> updateColumns) throws TableException {
+        if (updateColumns.isEmpty()) {
+            throw new IllegalArgumentException("Update columns must not be empty.");
+        }
+        List<String> columns = new ArrayList<>(updateColumns);
+        return writeAll(objects, (metadata, shape) -> upsertSql(metadata.getTableName(), metadata.columnNames(shape), columns),
+                "upsert", columns);
+    }
+
+    /**
+     * Single-row upsert statement, MySQL {@code ON DUPLICATE KEY UPDATE `a` = VALUES(`a`)} by default.
+     */
+    protected String upsertSql(String tableName, List<String> columns, List<String> updateColumns) {
+        return MysqlSqlUtil.insertOnDuplicateKeyUpdateValues(tableName, columns, 1, updateColumns);
+    }
+
+    private <T> Long writeAll(Collection<T> objects, BiFunction<JdbcTableMetadata, BitSet, String> renderer,
+                              Object... operation) throws TableException {
+        if (objects.isEmpty()) {
+            return 0L;
+        }
+        // rows of one statement must bind the same columns, group them by type and non-null shape
+        Map<List<Object>, List<Object[]>> groups = new LinkedHashMap<>();
+        for (T object : objects) {
+            JdbcTableMetadata metadata = metadata(object.getClass());
+            Object[] values = metadata.columnValues(object);
+            BitSet shape = JdbcTableMetadata.nonNullShape(values);
+            if (shape.isEmpty()) {
+                throw new IllegalArgumentException("Cannot insert an object with all fields as null.");
+            }
+            groups.computeIfAbsent(Arrays.asList(object.getClass(), shape), key -> new ArrayList<>()).add(values);
+        }
+
+        try (JdbcSession session = session()) {
+            return inTransaction(session.getConnection(), () -> {
+                long written = 0;
+                for (Map.Entry<List<Object>, List<Object[]>> group : groups.entrySet()) {
+                    Class<?> type = (Class<?>) group.getKey().get(0);
+                    BitSet shape = (BitSet) group.getKey().get(1);
+                    JdbcTableMetadata metadata = metadata(type);
+                    List<Object> key = new ArrayList<>(Arrays.asList(type, shape));
+                    key.addAll(Arrays.asList(operation));
+                    String sql = sql(() -> renderer.apply(metadata, shape), key.toArray());
+                    written += executeBatches(session, sql, shape, group.getValue());
+                }
+                return written;
+            });
+        } catch (SQLException e) {
+            throw new TableException("Failed to write batch", e);
+        }
+    }
+
+    private long executeBatches(JdbcSession session, String sql, BitSet shape, List<Object[]> rows) throws SQLException {
+        long written = 0;
+        PreparedStatement statement = session.prepare(sql);
+        int pending = 0;
+        for (Object[] values : rows) {
+            bindShape(statement, values, shape);
+            statement.addBatch();
+            if (++pending == batchSize) {
+                written += executeBatch(statement, pending);
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            written += executeBatch(statement, pending);
+        }
+        return written;
+    }
+
+    @Override
+    public <T> Long update(Condition condition, Object[] pairs, Class<T> type) throws TableException {
+        if (pairs.length % 2 != 0) {
+            throw new IllegalArgumentException("Pairs must contain an even number of elements (key-value pairs).");
+        }
+        JdbcTableMetadata metadata = metadata(type);
+        List<String> updateColumns = new ArrayList<>(pairs.length / 2);
+        for (int i = 0; i < pairs.length; i += 2) {
+            updateColumns.add((String) pairs[i]);
+        }
+        SqlCondition where = SqlCondition.render(condition, '`');
+        String sql = sql(() -> MysqlSqlUtil.update(metadata.getTableName(), updateColumns) + " WHERE " + where.getSql(),
+                type, "update", updateColumns, where.getSql());
+
+        try (JdbcSession session = session()) {
+            PreparedStatement statement = session.prepare(sql);
+            int index = 1;
+            for (int i = 1; i < pairs.length; i += 2) {
+                JdbcValues.bind(statement, index++, pairs[i]);
+            }
+            JdbcValues.bindAll(statement, index, where.getValues());
+            return (long) statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new TableException("Failed to update table " + metadata.getTableName(), e);
+        }
+    }
+
+    @Override
+    public <T> T find(Condition condition, Class<T> type) throws TableException {
+        JdbcTableMetadata metadata = metadata(type);
+        SqlCondition where = SqlCondition.render(condition, '`');
+        try (JdbcSession session = session()) {
+            PreparedStatement statement = session.prepare(selectSql(type, metadata, where));
+            statement.setMaxRows(1);
+            JdbcValues.bindAll(statement, 1, where.getValues());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? mapRow(resultSet, type, metadata) : null;
+            }
+        } catch (SQLException e) {
+            throw new TableException("Failed to query table " + metadata.getTableName(), e);
+        }
+    }
+
+    @Override
+    public <T> List<T> findAll(Class<T> type) throws TableException {
+        return findAll(null, type);
+    }
+
+    @Override
+    public <T> List<T> findAll(Condition condition, Class<T> type) throws TableException {
+        JdbcTableMetadata metadata = metadata(type);
+        SqlCondition where = condition == null ? null : SqlCondition.render(condition, '`');
+        try (JdbcSession session = session()) {
+            PreparedStatement statement = session.prepare(selectSql(type, metadata, where));
+            if (where != null) {
+                JdbcValues.bindAll(statement, 1, where.getValues());
+            }
+            List<T> result = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(mapRow(resultSet, type, metadata));
+                }
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new TableException("Failed to query table " + metadata.getTableName(), e);
+        }
+    }
+
+    public <T> Stream<T> stream(Class<T> type, int fetchSize) throws TableException {
+        return stream(null, type, fetchSize);
+    }
+
+    /**
+     * Lazily reads the rows matching the condition, which may be null, through a forward-only, read-only result
+     * set that holds about {@code fetchSize} rows at a time, 0 keeps the driver default. The stream owns a
+     * connection until it is closed or fully consumed, so use it in try-with-resources. Inside a unit of work it
+     * reads on the bound connection, which MySQL cannot use for anything else while rows are being streamed, unless
+     * the cursor needs a transaction the unit of work does not have; then it reads on a connection of its own. Read
+     * failures surface as {@link IllegalStateException}.
+     */
+    public <T> Stream<T> stream(Condition condition, Class<T> type, int fetchSize) throws TableException {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative.");
+        }
+        JdbcTableMetadata metadata = metadata(type);
+        SqlCondition where = condition == null ? null : SqlCondition.render(condition, '`');
+        String sql = selectSql(type, metadata, where);
+
+        JdbcSession session = null;
+        boolean autoCommit = false;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            session = session();
+            if (session.isBound() && cursorNeedsTransaction(fetchSize) && session.getConnection().getAutoCommit()) {
+                // the cursor's transaction would swallow the commits of writes made while it is open
+                session = new JdbcSession(dataSource.getConnection(), false);
+            }
+            Connection connection = session.getConnection();
+            autoCommit = connection.getAutoCommit();
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            configureCursor(connection, statement, fetchSize);
+            if (where != null) {
+                JdbcValues.bindAll(statement, 1, where.getValues());
+            }
+            resultSet = statement.executeQuery();
+        } catch (SQLException e) {
+            JdbcCursor.release(session, autoCommit, statement, resultSet);
+            throw new TableException("Failed to query table " + metadata.getTableName(), e);
+        }
+        JdbcCursor<T> cursor = new JdbcCursor<>(metadata.getTableName(), session, autoCommit, statement, resultSet,
+                row -> mapRow(row, type, metadata));
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    /**
+     * Up to {@code limit} rows matching the condition, which may be null, in ascending {@code orderColumn} order.
+     */
+    public <T> List<T> findPage(Condition condition, Class<T> type, String orderColumn, int limit) throws TableException {
+        JdbcTableMetadata metadata = metadata(type);
+        SqlCondition where = condition == null ? null : SqlCondition.render(condition, '`');
+        String whereSql = where == null ? null : where.getSql();
+        String sql = sql(() -> MysqlSqlUtil.selectOrderByLimit(metadata.getTableName(), metadata.getColumnNames(), whereSql, orderColumn),
+                type, "page", orderColumn, whereSql);
+
+        try (JdbcSession session = session()) {
+            PreparedStatement statement = session.prepare(sql);
+            int index = where == null ? 1 : JdbcValues.bindAll(statement, 1, where.getValues());
+            statement.setInt(index, limit);
+            List<T> result = new ArrayList<>(limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(mapRow(resultSet, type, metadata));
+                }
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new TableException("Failed to query table " + metadata.getTableName(), e);
+        }
+    }
+
+    @Override
+    public <T> Long delete(Condition condition, Class<T> type) throws TableException {
+        JdbcTableMetadata metadata = metadata(type);
+        SqlCondition where = SqlCondition.render(condition, '`');
+        String sql = sql(() -> MysqlSqlUtil.deleteAll(metadata.getTableName()) + " WHERE " + where.getSql(),
+                type, "delete", where.getSql());
+
+        try (JdbcSession session = session()) {
+            PreparedStatement statement = session.prepare(sql);
+            JdbcValues.bindAll(statement, 1, where.getValues());
+            return (long) statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new TableException("Failed to delete from table " + metadata.getTableName(), e);
+        }
+    }
+
+    @Override
+    public <T> Long deleteAll(Class<T> type) throws TableException {
+        return deleteAll(metadata(type).getTableName());
+    }
+
+    @Override
+    public Long deleteAll(String tableName) throws TableException {
+        String sql = MysqlSqlUtil.deleteAll(tableName);
+
+        try (JdbcSession session = session()) {
+            return (long) session.prepare(sql).executeUpdate();
+        } catch (SQLException e) {
+            throw new TableException("Failed to delete all records from table " + tableName, e);
+        }
+    }
+
+    @Override
+    public Long count(String tableName) throws TableException {
+        String sql = MysqlSqlUtil.count(tableName);
+
+        try (JdbcSession session = session();
+             ResultSet resultSet = session.prepare(sql).executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new TableException("Failed to count records in table " + tableName, e);
+        }
+    }
+
+    /**
+     * {@code SELECT} of all mapped columns in metadata order, with an optional where clause.
+     */
+    protected String selectSql(Class<?> type, JdbcTableMetadata metadata, SqlCondition where) {
+        if (where == null) {
+            return sql(() -> MysqlSqlUtil.select(metadata.getTableName(), metadata.getColumnNames()), type, "select");
+        }
+        return sql(() -> MysqlSqlUtil.select(metadata.getTableName(), metadata.getColumnNames()) + " WHERE " + where.getSql(),
+                type, "select", where.getSql());
+    }
+
+    /**
+     * Prepares a statement of {@link #stream} to hold about {@code fetchSize} rows at a time, 0 keeps the driver
+     * default. Runs before the statement executes.
+     */
+    protected void configureCursor(Connection connection, PreparedStatement statement, int fetchSize) throws SQLException {
+        if (fetchSize > 0) {
+            statement.setFetchSize(fetchSize);
+        }
+    }
+
+    /**
+     * Whether {@link #configureCursor} turns auto-commit off for the fetch size, such a cursor inside an
+     * auto-commit unit of work is opened on a separate connection.
+     */
+    protected boolean cursorNeedsTransaction(int fetchSize) {
+        return false;
+    }
+
+    /**
+     * Maps the current row of a result set produced by {@link #selectSql}.
+     */
+    protected <T> T mapRow(ResultSet resultSet, Class<T> type, JdbcTableMetadata metadata) throws SQLException {
+        Object instance = metadata.getMapper().newInstance();
+        int columns = metadata.getColumnNames().size();
+        for (int i = 0; i < columns; i++) {
+            Class<?> columnType = metadata.getMapper().columnType(i);
+            Object value = JdbcValues.read(resultSet, i + 1, columnType);
+            if (value != null || !columnType.isPrimitive()) {
+                metadata.getMapper().set(instance, i, value);
+            }
+        }
+        return type.cast(instance);
+    }
+
+    protected static void bindShape(PreparedStatement statement, Object[] values, BitSet shape) throws SQLException {
+        int index = 1;
+        for (int i = shape.nextSetBit(0); i >= 0; i = shape.nextSetBit(i + 1)) {
+            JdbcValues.bind(statement, index++, values[i]);
+        }
+    }
+
+    /**
+     * Executes the batch and sums the update counts, a driver that rewrote the batch may only report
+     * {@link Statement#SUCCESS_NO_INFO}, which is counted as one row per batched statement.
+     */
+    protected static long executeBatch(PreparedStatement statement, int batched) throws SQLException {
+        int[] counts = statement.executeBatch();
+        long total = 0;
+        for (int count : counts) {
+            if (count == Statement.SUCCESS_NO_INFO) {
+                return batched;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    protected interface SqlWork<R> {
+        R run() throws SQLException, TableException;
+    }
+
+    /**
+     * Runs the work with auto-commit disabled, committing on success and rolling back on failure. A connection
+     * already in a transaction just runs the work, leaving the outcome to whoever started it.
+     */
+    protected static <R> R inTransaction(Connection connection, SqlWork<R> work) throws SQLException, TableException {
+        if (!connection.getAutoCommit()) {
+            return work.run();
+        }
+        connection.setAutoCommit(false);
+        try {
+            R result = work.run();
+            connection.commit();
+            return result;
+        } catch (SQLException | TableException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+}
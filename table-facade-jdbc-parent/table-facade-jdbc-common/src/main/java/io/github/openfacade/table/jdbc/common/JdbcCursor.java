@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.common;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Forward-only cursor over an open result set. It owns the statement, the result set and, outside a unit of work,
+ * the connection, and releases them on {@link #close()}, or as soon as the last row has been read.
+ */
+class JdbcCursor<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+    interface RowReader<T> {
+        T read(ResultSet resultSet) throws SQLException;
+    }
+
+    private final String tableName;
+
+    private final JdbcSession session;
+
+    private final boolean autoCommit;
+
+    private final PreparedStatement statement;
+
+    private final ResultSet resultSet;
+
+    private final RowReader<T> reader;
+
+    private boolean closed;
+
+    JdbcCursor(String tableName, JdbcSession session, boolean autoCommit, PreparedStatement statement,
+               ResultSet resultSet, RowReader<T> reader) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.tableName = tableName;
+        this.session = session;
+        this.autoCommit = autoCommit;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+        T row;
+        try {
+            if (!resultSet.next()) {
+                close();
+                return false;
+            }
+            row = reader.read(resultSet);
+        } catch (SQLException e) {
+            close();
+            throw new IllegalStateException("Failed to read table " + tableName, e);
+        }
+        action.accept(row);
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        release(session, autoCommit, statement, resultSet);
+    }
+
+    /**
+     * Closes whatever is not null, ending the read-only transaction a cursor may have needed. The session's
+     * connection stays open when the session is bound to a unit of work.
+     */
+    static void release(JdbcSession session, boolean autoCommit, PreparedStatement statement, ResultSet resultSet) {
+        try {
+            if (resultSet != null) {
+                resultSet.close();
+            }
+        } catch (SQLException ignored) {
+        }
+        try {
+            if (statement != null) {
+                statement.close();
+            }
+        } catch (SQLException ignored) {
+        }
+        if (session == null) {
+            return;
+        }
+        try {
+            if (autoCommit && !session.getConnection().getAutoCommit()) {
+                session.getConnection().rollback();
+                session.getConnection().setAutoCommit(true);
+            }
+        } catch (SQLException ignored) {
+        }
+        try {
+            session.close();
+        } catch (SQLException ignored) {
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.common;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A connection with the prepared statements opened on it. Every operation runs in one: a bound session lives for
+ * a whole unit of work and keeps its statements open for reuse, an unbound one is closed with its operation.
+ */
+class JdbcSession implements AutoCloseable {
+    private final Connection connection;
+
+    private final boolean bound;
+
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    JdbcSession(Connection connection, boolean bound) {
+        this.connection = connection;
+        this.bound = bound;
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    boolean isBound() {
+        return bound;
+    }
+
+    int getStatementCount() {
+        return statements.size();
+    }
+
+    /**
+     * Returns the statement already prepared for the text in this session, with its parameters, batch and row limit
+     * cleared, or prepares it.
+     */
+    PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement != null && !statement.isClosed()) {
+            statement.clearParameters();
+            statement.clearBatch();
+            // find limits the rows of a statement findAll shares
+            if (statement.getMaxRows() != 0) {
+                statement.setMaxRows(0);
+            }
+            return statement;
+        }
+        statement = connection.prepareStatement(sql);
+        statements.put(sql, statement);
+        return statement;
+    }
+
+    /**
+     * Ends the operation, only an unbound session is released.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (!bound) {
+            release();
+        }
+    }
+
+    void release() throws SQLException {
+        SQLException failure = null;
+        for (PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                failure = e;
+            }
+        }
+        statements.clear();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            failure = e;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.common;
+
+import io.github.openfacade.table.api.EntityMapper;
+import io.github.openfacade.table.api.EntityMappers;
+import io.github.openfacade.table.api.EntityMapping;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Column layout of an entity for the JDBC engine, backed by the generated mapper when there is one and by
+ * {@link ReflectiveEntityMapper} otherwise.
+ */
+@Getter
+public class JdbcTableMetadata {
+    private final String tableName;
+
+    private final EntityMapper<Object> mapper;
+
+    private final List<String> columnNames;
+
+    @SuppressWarnings("unchecked")
+    public JdbcTableMetadata(@NotNull EntityMapper<?> mapper) {
+        this.mapper = (EntityMapper<Object>) mapper;
+        this.tableName = mapper.tableName();
+        this.columnNames = mapper.columnNames();
+    }
+
+    public static JdbcTableMetadata parse(@NotNull Class<?> type) {
+        EntityMapper<?> mapper = EntityMappers.find(type);
+        return new JdbcTableMetadata(mapper != null ? mapper : new ReflectiveEntityMapper<>(type));
+    }
+
+    public int columnIndex(String columnName) {
+        return columnNames.indexOf(columnName);
+    }
+
+    public Object[] columnValues(Object entity) {
+        Object[] values = new Object[columnNames.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mapper.get(entity, i);
+        }
+        return values;
+    }
+
+    public List<String> columnNames(BitSet shape) {
+        return EntityMapping.columnNames(columnNames, shape);
+    }
+
+    public static BitSet nonNullShape(Object[] values) {
+        return EntityMapping.nonNullShape(values);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.common;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Binding and reading of entity values, kept in one place so every statement converts them the same way.
+ */
+public final class JdbcValues {
+    private JdbcValues() {
+    }
+
+    public static void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.NULL);
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    /**
+     * Binds the values starting at the given 1-based parameter index and returns the next free index.
+     */
+    public static int bindAll(PreparedStatement statement, int index, List<Object> values) throws SQLException {
+        for (Object value : values) {
+            bind(statement, index++, value);
+        }
+        return index;
+    }
+
+    /**
+     * Reads a column of the current row as the given field type, {@code null} for SQL NULL.
+     */
+    public static Object read(ResultSet resultSet, int index, Class<?> type) throws SQLException {
+        if (type == byte[].class) {
+            return resultSet.getBytes(index);
+        }
+        Object value = resultSet.getObject(index, box(type));
+        return resultSet.wasNull() ? null : value;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        throw new IllegalArgumentException("Unsupported primitive type " + type);
+    }
+}
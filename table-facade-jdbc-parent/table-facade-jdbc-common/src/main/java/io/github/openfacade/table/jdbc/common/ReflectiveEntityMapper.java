@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.common;
+
+import io.github.openfacade.table.api.EntityMapper;
+import io.github.openfacade.table.api.EntityMapping;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link EntityMapper} over the getters and setters of a table entity, following the {@link EntityMapping}
+ * rules, used when no mapper was generated at compile time. Method handles are resolved once per class.
+ */
+public class ReflectiveEntityMapper<T> implements EntityMapper<T> {
+    private final Class<T> type;
+
+    private final String tableName;
+
+    private final List<String> columnNames;
+
+    private final Class<?>[] columnTypes;
+
+    private final MethodHandle constructor;
+
+    private final MethodHandle[] getters;
+
+    private final MethodHandle[] setters;
+
+    public ReflectiveEntityMapper(@NotNull Class<T> type) {
+        String table = EntityMapping.tableName(type);
+        if (table == null || table.isEmpty()) {
+            throw new IllegalArgumentException("Class " + type.getName() + " does not have a Table annotation with a valid name.");
+        }
+        this.type = type;
+        this.tableName = table;
+
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        List<String> names = new ArrayList<>();
+        List<Class<?>> types = new ArrayList<>();
+        List<MethodHandle> getterList = new ArrayList<>();
+        List<MethodHandle> setterList = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            String column = EntityMapping.columnName(field);
+            if (column == null) {
+                continue;
+            }
+            names.add(column);
+            types.add(field.getType());
+            getterList.add(unreflect(lookup, EntityMapping.getter(type, field))
+                    .asType(MethodType.methodType(Object.class, Object.class)));
+            setterList.add(unreflect(lookup, EntityMapping.setter(type, field))
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class)));
+        }
+        this.columnNames = Collections.unmodifiableList(names);
+        this.columnTypes = types.toArray(new Class<?>[0]);
+        this.getters = getterList.toArray(new MethodHandle[0]);
+        this.setters = setterList.toArray(new MethodHandle[0]);
+        this.constructor = constructor(lookup, type);
+    }
+
+    @Override
+    public Class<T> entityType() {
+        return type;
+    }
+
+    @Override
+    public String tableName() {
+        return tableName;
+    }
+
+    @Override
+    public List<String> columnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public Class<?> columnType(int index) {
+        return columnTypes[index];
+    }
+
+    @Override
+    public T newInstance() {
+        try {
+            return type.cast(constructor.invoke());
+        } catch (Throwable e) {
+            throw new IllegalStateException("Error creating instance of: " + type.getName(), e);
+        }
+    }
+
+    @Override
+    public Object get(T entity, int index) {
+        try {
+            return getters[index].invoke(entity);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Error getting column " + columnNames.get(index) + " of " + type.getName(), e);
+        }
+    }
+
+    @Override
+    public void set(T entity, int index, Object value) {
+        try {
+            setters[index].invoke(entity, value);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Error setting column " + columnNames.get(index) + " of " + type.getName(), e);
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Method " + method.getName() + " is not accessible", e);
+        }
+    }
+
+    private static MethodHandle constructor(MethodHandles.Lookup lookup, Class<?> type) {
+        try {
+            return lookup.findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("No public no-arg constructor for " + type.getName(), e);
+        }
+    }
+}
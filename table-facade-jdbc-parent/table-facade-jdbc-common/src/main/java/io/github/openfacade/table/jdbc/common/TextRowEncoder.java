@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.common;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Encodes rows for bulk load formats into one reusable buffer: tab separated columns, newline terminated rows,
+ * {@code \N} for NULL and backslash escapes, the text format shared by PostgreSQL {@code COPY} and MySQL
+ * {@code LOAD DATA}. Strings are written as UTF-8 directly, so a row costs no intermediate strings beyond the
+ * values' own {@code toString} for non-string types. Dialects only differ in how booleans and binary values
+ * are spelled.
+ */
+public abstract class TextRowEncoder {
+    protected byte[] buffer;
+
+    protected int size;
+
+    protected TextRowEncoder(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public byte[] array() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Appends one row made of the values at the set bits of {@code columns}.
+     */
+    public void writeRow(Object[] values, BitSet columns) {
+        boolean first = true;
+        for (int i = columns.nextSetBit(0); i >= 0; i = columns.nextSetBit(i + 1)) {
+            if (!first) {
+                put((byte) '\t');
+            }
+            first = false;
+            writeValue(values[i]);
+        }
+        put((byte) '\n');
+    }
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            put((byte) '\\');
+            put((byte) 'N');
+        } else if (value instanceof Boolean) {
+            writeBoolean((Boolean) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof BigDecimal) {
+            writeText(((BigDecimal) value).toPlainString());
+        } else if (value instanceof byte[]) {
+            writeBytes((byte[]) value);
+        } else {
+            writeText(value.toString());
+        }
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeText(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            put((byte) '-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        ensure(digits);
+        for (int i = size + digits - 1; i >= size; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+    }
+
+    protected abstract void writeBoolean(boolean value);
+
+    protected abstract void writeBytes(byte[] bytes);
+
+    protected void writeText(String text) {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                switch (c) {
+                    case '\\':
+                        put((byte) '\\');
+                        put((byte) '\\');
+                        break;
+                    case '\t':
+                        put((byte) '\\');
+                        put((byte) 't');
+                        break;
+                    case '\n':
+                        put((byte) '\\');
+                        put((byte) 'n');
+                        break;
+                    case '\r':
+                        put((byte) '\\');
+                        put((byte) 'r');
+                        break;
+                    default:
+                        put((byte) c);
+                }
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer[size++] = (byte) (0xC0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                ensure(4);
+                buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                put((byte) '?');
+            } else {
+                ensure(3);
+                buffer[size++] = (byte) (0xE0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    protected void put(byte b) {
+        ensure(1);
+        buffer[size++] = b;
+    }
+
+    protected void ensure(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
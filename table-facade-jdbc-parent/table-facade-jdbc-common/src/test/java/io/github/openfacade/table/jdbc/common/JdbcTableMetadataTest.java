@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.common;
+
+import io.github.openfacade.table.api.anno.Column;
+import io.github.openfacade.table.api.anno.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+class JdbcTableMetadataTest {
+    @Getter
+    @Setter
+    @Table(name = "jdbc_entity")
+    public static class JdbcEntity {
+        @Column(name = "id")
+        private long id;
+
+        @Column(name = "enabled")
+        private boolean enabled;
+
+        @Column(name = "name")
+        private String name;
+
+        private String transientField;
+    }
+
+    @Test
+    public void testReflectiveMetadata() throws Exception {
+        JdbcTableMetadata metadata = JdbcTableMetadata.parse(JdbcEntity.class);
+        Assertions.assertEquals("jdbc_entity", metadata.getTableName());
+        Assertions.assertEquals(Arrays.asList("id", "enabled", "name"), metadata.getColumnNames());
+
+        JdbcEntity entity = (JdbcEntity) metadata.getMapper().newInstance();
+        metadata.getMapper().set(entity, 0, 7L);
+        metadata.getMapper().set(entity, 1, true);
+        Assertions.assertEquals(7L, entity.getId());
+        Assertions.assertTrue(entity.isEnabled());
+
+        Object[] values = metadata.columnValues(entity);
+        Assertions.assertArrayEquals(new Object[]{7L, true, null}, values);
+        BitSet shape = JdbcTableMetadata.nonNullShape(values);
+        Assertions.assertEquals(Arrays.asList("id", "enabled"), metadata.columnNames(shape));
+    }
+
+    @Test
+    public void testMissingTableAnnotation() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JdbcTableMetadata.parse(Collections.class));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.mysql;
+
+import io.github.openfacade.table.jdbc.common.TextRowEncoder;
+
+/**
+ * {@code LOAD DATA} default format: booleans as {@code 1}/{@code 0}, binary values as raw bytes with the
+ * escape, separator and line bytes escaped.
+ */
+class LoadDataEncoder extends TextRowEncoder {
+    LoadDataEncoder(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    @Override
+    protected void writeBoolean(boolean value) {
+        put(value ? (byte) '1' : (byte) '0');
+    }
+
+    @Override
+    protected void writeBytes(byte[] bytes) {
+        ensure(bytes.length);
+        for (byte b : bytes) {
+            switch (b) {
+                case '\\':
+                    put((byte) '\\');
+                    put((byte) '\\');
+                    break;
+                case '\t':
+                    put((byte) '\\');
+                    put((byte) 't');
+                    break;
+                case '\n':
+                    put((byte) '\\');
+                    put((byte) 'n');
+                    break;
+                case '\r':
+                    put((byte) '\\');
+                    put((byte) 'r');
+                    break;
+                case 0:
+                    put((byte) '\\');
+                    put((byte) '0');
+                    break;
+                default:
+                    put(b);
+            }
+        }
+    }
+}
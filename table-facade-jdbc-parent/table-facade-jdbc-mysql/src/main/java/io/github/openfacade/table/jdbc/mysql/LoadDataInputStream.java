@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.mysql;
+
+import io.github.openfacade.table.jdbc.common.JdbcTableMetadata;
+
+import java.io.InputStream;
+import java.util.BitSet;
+import java.util.Iterator;
+
+/**
+ * Encodes entities on demand as the driver reads, one chunk of rows at a time into the same buffer, so neither
+ * the file nor the whole data set ever exists. The stream covers one run of rows with the same non-null columns
+ * and ends before the first row of another shape, which {@link #nextRun()} then hands back.
+ */
+class LoadDataInputStream extends InputStream {
+    static final int CHUNK_BYTES = 1 << 16;
+
+    private final Iterator<?> objects;
+
+    private final JdbcTableMetadata metadata;
+
+    private final BitSet columns;
+
+    private final LoadDataEncoder encoder = new LoadDataEncoder(CHUNK_BYTES + (CHUNK_BYTES >> 2));
+
+    private int position;
+
+    private Object[] next;
+
+    private Object[] nextRun;
+
+    LoadDataInputStream(Iterator<?> objects, JdbcTableMetadata metadata, Object[] first, BitSet columns) {
+        this.objects = objects;
+        this.metadata = metadata;
+        this.columns = columns;
+        this.next = first;
+    }
+
+    /**
+     * The first row after this run, null when the objects are exhausted or the run has not been read to its end.
+     */
+    Object[] nextRun() {
+        return nextRun;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return encoder.array()[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(length, encoder.size() - position);
+        System.arraycopy(encoder.array(), position, bytes, offset, count);
+        position += count;
+        return count;
+    }
+
+    private boolean fill() {
+        if (position < encoder.size()) {
+            return true;
+        }
+        encoder.reset();
+        position = 0;
+        while (encoder.size() < CHUNK_BYTES && next != null) {
+            encoder.writeRow(next, columns);
+            next = null;
+            if (objects.hasNext()) {
+                Object[] values = metadata.columnValues(objects.next());
+                if (JdbcTableMetadata.nonNullShape(values).equals(columns)) {
+                    next = values;
+                } else {
+                    nextRun = values;
+                }
+            }
+        }
+        return encoder.size() > 0;
+    }
+}
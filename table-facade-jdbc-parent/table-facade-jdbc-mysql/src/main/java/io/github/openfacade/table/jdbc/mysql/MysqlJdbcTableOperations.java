@@ -17,45 +17,70 @@
 package io.github.openfacade.table.jdbc.mysql;
 
 import io.github.openfacade.table.api.TableException;
-import io.github.openfacade.table.api.TableOperations;
-import io.github.openfacade.table.sql.mysql.MysqlSqlUtil;
-import lombok.RequiredArgsConstructor;
+import io.github.openfacade.table.jdbc.common.JdbcBaseTableOperations;
+import io.github.openfacade.table.jdbc.common.JdbcTableMetadata;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 import javax.sql.DataSource;
 
-@RequiredArgsConstructor
-public class MysqlJdbcTableOperations implements TableOperations {
-    private final DataSource dataSource;
+/**
+ * MySQL table operations on plain JDBC. For the best throughput enable the Connector/J statement cache and batch
+ * rewriting on the data source: {@code cachePrepStmts=true}, {@code useServerPrepStmts=true} and
+ * {@code rewriteBatchedStatements=true}.
+ */
+public class MysqlJdbcTableOperations extends JdbcBaseTableOperations {
+    private boolean cursorFetch;
 
-    @Override
-    public <T> Long deleteAll(Class<T> type) throws TableException {
-        io.github.openfacade.table.api.anno.Table tableAnnotation = type.getAnnotation(io.github.openfacade.table.api.anno.Table.class);
-        if (tableAnnotation == null || tableAnnotation.name().isEmpty()) {
-            throw new TableException("Class " + type.getName() + " does not have a Table annotation with a valid name.");
-        }
+    public MysqlJdbcTableOperations(DataSource dataSource) {
+        super(dataSource);
+    }
 
-        String tableName = tableAnnotation.name();
-        String sql = MysqlSqlUtil.deleteAll(tableName);
+    public boolean isCursorFetch() {
+        return cursorFetch;
+    }
 
-        try (Connection connection = dataSource.getConnection();
-             Statement stmt = connection.createStatement()) {
-            int rowsAffected = stmt.executeUpdate(sql);
-            return (long) rowsAffected;
-        } catch (SQLException e) {
-            throw new TableException("Failed to delete all records from table " + tableName, e);
-        }
+    /**
+     * Set when the data source has {@code useCursorFetch=true}, streams then read {@code fetchSize} rows per
+     * round trip through a server-side cursor.
+     */
+    public void setCursorFetch(boolean cursorFetch) {
+        this.cursorFetch = cursorFetch;
     }
 
-    @Override
-    public Long deleteAll(String tableName) throws TableException {
-        throw new UnsupportedOperationException();
+    /**
+     * Bulk loads the objects with {@code LOAD DATA LOCAL INFILE}, encoding the non-null columns in metadata order
+     * into a tab separated stream the driver reads while the statement runs, nothing is written to disk.
+     * Consecutive objects with the same non-null columns share one statement, so null columns take their defaults
+     * as with insert. Returns
+     * the number of rows loaded, rows duplicating a key are skipped. Needs {@code allowLoadLocalInfile=true} on
+     * the data source, {@code local_infile=ON} on the server and Connector/J, which this module only declares as
+     * provided.
+     */
+    public <T> Long loadData(Iterable<T> objects, Class<T> type) throws TableException {
+        JdbcTableMetadata metadata = metadata(type);
+        try {
+            return onConnection(connection -> inTransaction(connection,
+                    () -> MysqlLoadData.load(connection, metadata, objects.iterator())));
+        } catch (SQLException e) {
+            throw new TableException("Failed to load data into table " + metadata.getTableName(), e);
+        }
     }
 
+    /**
+     * Connector/J reads the whole result into memory unless the fetch size is {@link Integer#MIN_VALUE}, which
+     * streams rows one at a time, or cursor fetch is enabled.
+     */
     @Override
-    public Long count(String tableName) throws TableException {
-        throw new UnsupportedOperationException();
+    protected void configureCursor(Connection connection, PreparedStatement statement, int fetchSize) throws SQLException {
+        if (fetchSize <= 0) {
+            return;
+        }
+        if (cursorFetch) {
+            statement.setFetchSize(fetchSize);
+        } else {
+            statement.setFetchSize(Integer.MIN_VALUE);
+        }
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.mysql;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import io.github.openfacade.table.jdbc.common.JdbcTableMetadata;
+import io.github.openfacade.table.sql.mysql.MysqlSqlUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.BitSet;
+import java.util.Iterator;
+
+/**
+ * {@code LOAD DATA LOCAL INFILE} fed through Connector/J's local infile stream, kept apart so the driver classes
+ * are only needed when bulk loading is used.
+ */
+final class MysqlLoadData {
+    private MysqlLoadData() {
+    }
+
+    /**
+     * Returns the rows the server loaded, with {@code LOCAL} rows that duplicate a key are skipped rather than
+     * failing the load. Columns are the non-null columns of the row, like with insert, and a row of another shape
+     * ends the current load and starts one over its own columns, so columns left null take their defaults instead
+     * of being sent as {@code \N}.
+     */
+    static long load(Connection connection, JdbcTableMetadata metadata, Iterator<?> objects) throws SQLException {
+        long loaded = 0;
+        Object[] values = objects.hasNext() ? metadata.columnValues(objects.next()) : null;
+        while (values != null) {
+            BitSet columns = JdbcTableMetadata.nonNullShape(values);
+            if (columns.isEmpty()) {
+                throw new IllegalArgumentException("Cannot insert an object with all fields as null.");
+            }
+            LoadDataInputStream input = new LoadDataInputStream(objects, metadata, values, columns);
+            String sql = MysqlSqlUtil.loadDataLocalInfile(metadata.getTableName(), metadata.columnNames(columns));
+            try (Statement statement = connection.createStatement()) {
+                statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(input);
+                loaded += statement.executeLargeUpdate(sql);
+            }
+            values = input.nextRun();
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.mysql;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+class LoadDataEncoderTest {
+
+    @Test
+    void testEncodeRow() {
+        LoadDataEncoder encoder = new LoadDataEncoder(4);
+        BitSet columns = new BitSet();
+        columns.set(0, 5);
+        encoder.writeRow(new Object[]{null, 42, false, new byte[]{'\\', 0, '\t', 'z'}, "a\tb\nc"}, columns);
+        Assertions.assertEquals("\\N\t42\t0\t\\\\\\0\\tz\ta\\tb\\nc\n",
+                new String(encoder.array(), 0, encoder.size(), StandardCharsets.UTF_8));
+    }
+}
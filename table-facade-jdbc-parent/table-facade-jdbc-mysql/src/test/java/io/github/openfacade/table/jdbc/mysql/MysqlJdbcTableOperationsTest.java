@@ -0,0 +1,279 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.mysql;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.InCondition;
+import io.github.openfacade.table.api.TableException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+@Testcontainers
+class MysqlJdbcTableOperationsTest {
+
+    @Container
+    private static final MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("--local-infile=1");
+
+    private static HikariDataSource dataSource;
+
+    private MysqlJdbcTableOperations tableOperations;
+
+    @BeforeAll
+    static void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(mysqlContainer.getJdbcUrl());
+        config.setUsername(mysqlContainer.getUsername());
+        config.setPassword(mysqlContainer.getPassword());
+        config.setDriverClassName(mysqlContainer.getDriverClassName());
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        config.addDataSourceProperty("allowLoadLocalInfile", "true");
+
+        dataSource = new HikariDataSource(config);
+    }
+
+    @BeforeEach
+    void init() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE test_jdbc_entity ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "tinyint_boolean_field TINYINT(1), "
+                    + "blob_bytes_field BLOB, "
+                    + "varchar_string_field VARCHAR(255))");
+        }
+        tableOperations = new MysqlJdbcTableOperations(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("DROP TABLE test_jdbc_entity");
+        }
+    }
+
+    private static TestJdbcEntity entity(long id) {
+        TestJdbcEntity entity = new TestJdbcEntity();
+        entity.setId(id);
+        entity.setTinyintBooleanField(id % 2 == 0);
+        entity.setVarcharStringField("Row " + id);
+        return entity;
+    }
+
+    @Test
+    void testCrud() throws Exception {
+        TestJdbcEntity entity = entity(1);
+        entity.setBlobBytesField("Sample Data".getBytes(StandardCharsets.UTF_8));
+        tableOperations.insert(entity);
+
+        ComparisonCondition condition = new ComparisonCondition("id", ComparisonOperator.EQ, 1L);
+        TestJdbcEntity found = tableOperations.find(condition, TestJdbcEntity.class);
+        Assertions.assertNotNull(found);
+        Assertions.assertArrayEquals("Sample Data".getBytes(StandardCharsets.UTF_8), found.getBlobBytesField());
+        Assertions.assertEquals("Row 1", found.getVarcharStringField());
+
+        Object[] pairs = {"varchar_string_field", "Updated", "tinyint_boolean_field", true};
+        Assertions.assertEquals(1L, tableOperations.update(condition, pairs, TestJdbcEntity.class));
+        found = tableOperations.find(condition, TestJdbcEntity.class);
+        Assertions.assertEquals("Updated", found.getVarcharStringField());
+        Assertions.assertTrue(found.isTinyintBooleanField());
+
+        Assertions.assertEquals(1L, tableOperations.count("test_jdbc_entity"));
+        Assertions.assertEquals(1L, tableOperations.delete(condition, TestJdbcEntity.class));
+        Assertions.assertNull(tableOperations.find(condition, TestJdbcEntity.class));
+    }
+
+    @Test
+    void testInsertAllInBatches() throws Exception {
+        List<TestJdbcEntity> entities = new ArrayList<>();
+        for (long i = 1; i <= 25; i++) {
+            entities.add(entity(i));
+        }
+        entities.get(3).setVarcharStringField(null);
+        tableOperations.setBatchSize(10);
+
+        Assertions.assertEquals(25L, tableOperations.insertAll(entities));
+        Assertions.assertEquals(25, tableOperations.findAll(TestJdbcEntity.class).size());
+        Assertions.assertEquals(3, tableOperations.findAll(new InCondition("id", Arrays.asList(1L, 2L, 3L, 99L)),
+                TestJdbcEntity.class).size());
+        Assertions.assertEquals(25L, tableOperations.deleteAll(TestJdbcEntity.class));
+    }
+
+    @Test
+    void testUnitOfWork() throws Exception {
+        long found = tableOperations.withConnection(operations -> {
+            for (long i = 1; i <= 10; i++) {
+                operations.insert(entity(i));
+            }
+            return operations.count("test_jdbc_entity");
+        });
+        Assertions.assertEquals(10L, found);
+
+        Assertions.assertThrows(TableException.class, () -> tableOperations.withTransaction(operations -> {
+            operations.deleteAll(TestJdbcEntity.class);
+            Assertions.assertEquals(0L, operations.count("test_jdbc_entity"));
+            throw new TableException("abort");
+        }));
+        Assertions.assertEquals(10L, tableOperations.count("test_jdbc_entity"));
+
+        tableOperations.withTransaction(operations -> {
+            operations.insert(entity(11));
+            return operations.delete(new ComparisonCondition("id", ComparisonOperator.LTE, 5L), TestJdbcEntity.class);
+        });
+        Assertions.assertEquals(6L, tableOperations.count("test_jdbc_entity"));
+    }
+
+    @Test
+    void testUnitOfWorkFindThenFindAll() throws Exception {
+        for (long i = 1; i <= 5; i++) {
+            tableOperations.insert(entity(i));
+        }
+        ComparisonCondition condition = new ComparisonCondition("id", ComparisonOperator.GT, 1L);
+        int found = tableOperations.withConnection(operations -> {
+            Assertions.assertNotNull(operations.find(condition, TestJdbcEntity.class));
+            return operations.findAll(condition, TestJdbcEntity.class).size();
+        });
+        Assertions.assertEquals(4, found);
+    }
+
+    @Test
+    void testStream() throws Exception {
+        List<TestJdbcEntity> entities = new ArrayList<>();
+        for (long i = 1; i <= 100; i++) {
+            entities.add(entity(i));
+        }
+        tableOperations.insertAll(entities);
+
+        try (Stream<TestJdbcEntity> stream = tableOperations.stream(TestJdbcEntity.class, 10)) {
+            Assertions.assertEquals(100L, stream.count());
+        }
+        try (Stream<TestJdbcEntity> stream = tableOperations.stream(
+                new ComparisonCondition("id", ComparisonOperator.GT, 90L), TestJdbcEntity.class, 10)) {
+            Assertions.assertEquals(5L, stream.filter(TestJdbcEntity::isTinyintBooleanField).count());
+        }
+
+        // an abandoned stream must give its streaming connection back
+        for (int i = 0; i < 20; i++) {
+            try (Stream<TestJdbcEntity> stream = tableOperations.stream(TestJdbcEntity.class, 1)) {
+                Assertions.assertEquals(1L, stream.limit(1).count());
+            }
+        }
+        Assertions.assertEquals(100L, tableOperations.count("test_jdbc_entity"));
+    }
+
+    @Test
+    void testLoadData() throws Exception {
+        int rows = 20_000;
+        List<TestJdbcEntity> entities = new ArrayList<>();
+        for (long i = 1; i <= rows; i++) {
+            TestJdbcEntity entity = entity(i);
+            entity.setBlobBytesField(new byte[]{'\\', 0, '\t', (byte) i});
+            entities.add(entity);
+        }
+        entities.get(0).setVarcharStringField("tab\tnew line\nbackslash\\");
+        entities.get(1).setVarcharStringField(null);
+
+        long start = System.nanoTime();
+        Assertions.assertEquals((long) rows, tableOperations.loadData(entities, TestJdbcEntity.class));
+        log.info("loadData: {} rows/s", rows * 1_000_000_000L / Math.max(System.nanoTime() - start, 1));
+
+        TestJdbcEntity first = tableOperations.find(new ComparisonCondition("id", ComparisonOperator.EQ, 1L),
+                TestJdbcEntity.class);
+        Assertions.assertEquals("tab\tnew line\nbackslash\\", first.getVarcharStringField());
+        Assertions.assertArrayEquals(new byte[]{'\\', 0, '\t', 1}, first.getBlobBytesField());
+        Assertions.assertNull(tableOperations.find(new ComparisonCondition("id", ComparisonOperator.EQ, 2L),
+                TestJdbcEntity.class).getVarcharStringField());
+        Assertions.assertEquals((long) rows, tableOperations.count("test_jdbc_entity"));
+    }
+
+    @Test
+    void testLoadDataLeavesNullColumnsToTheirDefaults() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("ALTER TABLE test_jdbc_entity "
+                    + "MODIFY varchar_string_field VARCHAR(255) NOT NULL DEFAULT 'unset'");
+        }
+        List<TestJdbcEntity> entities = new ArrayList<>();
+        for (long i = 1; i <= 6; i++) {
+            entities.add(entity(i));
+        }
+        entities.get(2).setVarcharStringField(null);
+        entities.get(3).setVarcharStringField(null);
+        entities.get(5).setId(null);
+
+        Assertions.assertEquals(6L, tableOperations.loadData(entities, TestJdbcEntity.class));
+
+        Assertions.assertEquals("Row 2", tableOperations.find(new ComparisonCondition("id", ComparisonOperator.EQ, 2L),
+                TestJdbcEntity.class).getVarcharStringField());
+        Assertions.assertEquals("unset", tableOperations.find(new ComparisonCondition("id", ComparisonOperator.EQ, 3L),
+                TestJdbcEntity.class).getVarcharStringField());
+        Assertions.assertEquals("unset", tableOperations.find(new ComparisonCondition("id", ComparisonOperator.EQ, 4L),
+                TestJdbcEntity.class).getVarcharStringField());
+        Assertions.assertEquals("Row 6", tableOperations.find(new ComparisonCondition("id", ComparisonOperator.EQ, 6L),
+                TestJdbcEntity.class).getVarcharStringField());
+    }
+
+    @Test
+    void testInsertThroughput() throws Exception {
+        int rows = 5000;
+        List<TestJdbcEntity> entities = new ArrayList<>();
+        for (long i = 1; i <= rows; i++) {
+            entities.add(entity(i));
+        }
+
+        long start = System.nanoTime();
+        for (TestJdbcEntity entity : entities.subList(0, rows / 10)) {
+            tableOperations.insert(entity);
+        }
+        long singleNanos = System.nanoTime() - start;
+        tableOperations.deleteAll(TestJdbcEntity.class);
+
+        start = System.nanoTime();
+        Assertions.assertEquals((long) rows, tableOperations.insertAll(entities));
+        long batchNanos = System.nanoTime() - start;
+
+        log.info("single-row insert: {} rows/s, batched insertAll: {} rows/s",
+                (rows / 10) * 1_000_000_000L / Math.max(singleNanos, 1),
+                rows * 1_000_000_000L / Math.max(batchNanos, 1));
+        Assertions.assertEquals((long) rows, tableOperations.count("test_jdbc_entity"));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.opengauss;
+
+import io.github.openfacade.table.jdbc.common.TextRowEncoder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code COPY ... FROM STDIN} text format: booleans as {@code t}/{@code f}, bytea in hex form.
+ */
+class CopyTextEncoder extends TextRowEncoder {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    CopyTextEncoder(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    @Override
+    protected void writeBoolean(boolean value) {
+        put(value ? (byte) 't' : (byte) 'f');
+    }
+
+    /**
+     * {@code \x} written with its backslash escaped as the text format requires.
+     */
+    @Override
+    protected void writeBytes(byte[] bytes) {
+        ensure(3 + bytes.length * 2);
+        buffer[size++] = '\\';
+        buffer[size++] = '\\';
+        buffer[size++] = 'x';
+        for (byte b : bytes) {
+            buffer[size++] = HEX[(b >> 4) & 0xF];
+            buffer[size++] = HEX[b & 0xF];
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.opengauss;
+
+import io.github.openfacade.table.jdbc.common.JdbcTableMetadata;
+import io.github.openfacade.table.sql.common.SqlBuilder;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.Iterator;
+
+/**
+ * {@code COPY ... FROM STDIN} through the driver's {@link CopyManager}, kept apart so the driver classes are only
+ * needed when bulk loading is used.
+ */
+final class OpenGaussCopy {
+    static final int FLUSH_BYTES = 1 << 16;
+
+    private OpenGaussCopy() {
+    }
+
+    /**
+     * Streams the objects in text format. Columns are the non-null columns of the row, like with insert, and a row
+     * of another shape ends the current COPY and starts one over its own columns, so columns left null take their
+     * defaults instead of being sent as NULL.
+     */
+    static long copyIn(Connection connection, JdbcTableMetadata metadata, Iterator<?> objects) throws SQLException {
+        CopyManager copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
+        CopyTextEncoder encoder = new CopyTextEncoder(FLUSH_BYTES + (FLUSH_BYTES >> 2));
+        long copied = 0;
+        CopyIn copyIn = null;
+        BitSet columns = null;
+        try {
+            while (objects.hasNext()) {
+                Object[] values = metadata.columnValues(objects.next());
+                BitSet shape = JdbcTableMetadata.nonNullShape(values);
+                if (!shape.equals(columns)) {
+                    if (copyIn != null) {
+                        copied += end(copyIn, encoder);
+                    }
+                    columns = shape;
+                    if (columns.isEmpty()) {
+                        throw new IllegalArgumentException("Cannot insert an object with all fields as null.");
+                    }
+                    copyIn = copyManager.copyIn(copySql(metadata, columns));
+                }
+                encoder.writeRow(values, columns);
+                if (encoder.size() >= FLUSH_BYTES) {
+                    flush(copyIn, encoder);
+                }
+            }
+            if (copyIn != null) {
+                copied += end(copyIn, encoder);
+            }
+            return copied;
+        } catch (SQLException | RuntimeException e) {
+            if (copyIn != null && copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            throw e;
+        }
+    }
+
+    static String copySql(JdbcTableMetadata metadata, BitSet columns) {
+        return new SqlBuilder()
+                .keyword("COPY ")
+                .quote('`')
+                .identifier(metadata.getTableName())
+                .keyword(" (")
+                .identifiers(metadata.columnNames(columns))
+                .keyword(") FROM STDIN")
+                .build();
+    }
+
+    private static void flush(CopyIn copyIn, CopyTextEncoder encoder) throws SQLException {
+        copyIn.writeToCopy(encoder.array(), 0, encoder.size());
+        encoder.reset();
+    }
+
+    private static long end(CopyIn copyIn, CopyTextEncoder encoder) throws SQLException {
+        if (encoder.size() > 0) {
+            flush(copyIn, encoder);
+        }
+        return copyIn.endCopy();
+    }
+}
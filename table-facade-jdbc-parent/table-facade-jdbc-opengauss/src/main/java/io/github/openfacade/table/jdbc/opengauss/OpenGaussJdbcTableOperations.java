@@ -17,64 +17,55 @@
 package io.github.openfacade.table.jdbc.opengauss;
 
 import io.github.openfacade.table.api.TableException;
-import io.github.openfacade.table.api.TableOperations;
+import io.github.openfacade.table.jdbc.common.JdbcBaseTableOperations;
+import io.github.openfacade.table.jdbc.common.JdbcTableMetadata;
 import io.github.openfacade.table.sql.mysql.MysqlSqlUtil;
-import lombok.RequiredArgsConstructor;
 
 import java.sql.Connection;
-import java.sql.ResultSet;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.List;
 import javax.sql.DataSource;
 
-@RequiredArgsConstructor
-public class OpenGaussJdbcTableOperations implements TableOperations {
-    private final DataSource dataSource;
-
-    @Override
-    public <T> Long deleteAll(Class<T> type) throws TableException {
-        io.github.openfacade.table.api.anno.Table tableAnnotation = type.getAnnotation(io.github.openfacade.table.api.anno.Table.class);
-        if (tableAnnotation == null || tableAnnotation.name().isEmpty()) {
-            throw new TableException("Class " + type.getName() + " does not have a Table annotation with a valid name.");
-        }
-
-        String tableName = tableAnnotation.name();
-        String sql = MysqlSqlUtil.deleteAll(tableName);
+public class OpenGaussJdbcTableOperations extends JdbcBaseTableOperations {
+    public OpenGaussJdbcTableOperations(DataSource dataSource) {
+        super(dataSource);
+    }
 
-        try (Connection connection = dataSource.getConnection();
-             Statement stmt = connection.createStatement()) {
-            int rowsAffected = stmt.executeUpdate(sql);
-            return (long) rowsAffected;
+    /**
+     * Bulk loads the objects with {@code COPY ... FROM STDIN}, encoding rows into a reusable buffer flushed every
+     * 64 KiB, and returns the number of rows copied. The objects are consumed lazily, so a large load can be fed
+     * from a stream or cursor. Needs the openGauss JDBC driver, which this module only declares as provided.
+     */
+    public <T> Long copyIn(Iterable<T> objects, Class<T> type) throws TableException {
+        JdbcTableMetadata metadata = metadata(type);
+        try {
+            return onConnection(connection -> inTransaction(connection,
+                    () -> OpenGaussCopy.copyIn(connection, metadata, objects.iterator())));
         } catch (SQLException e) {
-            throw new TableException("Failed to delete all records from table " + tableName, e);
+            throw new TableException("Failed to copy into table " + metadata.getTableName(), e);
         }
     }
 
     @Override
-    public Long deleteAll(String tableName) throws TableException {
-        String sql = MysqlSqlUtil.deleteAll(tableName);
-
-        try (Connection connection = dataSource.getConnection();
-             Statement stmt = connection.createStatement()) {
-            int rowsAffected = stmt.executeUpdate(sql);
-            return (long) rowsAffected;
-        } catch (SQLException e) {
-            throw new TableException("Failed to delete all records from table " + tableName, e);
-        }
+    protected String upsertSql(String tableName, List<String> columns, List<String> updateColumns) {
+        return MysqlSqlUtil.insertOnDuplicateKeyUpdateExcluded(tableName, columns, 1, updateColumns);
     }
 
     @Override
-    public Long count(String tableName) throws TableException {
-        String sql = MysqlSqlUtil.count(tableName);
+    protected boolean cursorNeedsTransaction(int fetchSize) {
+        return fetchSize > 0;
+    }
 
-        try (Connection connection = dataSource.getConnection();
-             Statement stmt = connection.createStatement()) {
-            stmt.execute(sql);
-            ResultSet resultSet = stmt.getResultSet();
-            resultSet.next();
-            return resultSet.getLong(1);
-        } catch (SQLException e) {
-            throw new TableException("Failed to count records in table " + tableName, e);
+    /**
+     * The driver only fetches in chunks inside a transaction, so the cursor turns auto-commit off until the
+     * stream is closed.
+     */
+    @Override
+    protected void configureCursor(Connection connection, PreparedStatement statement, int fetchSize) throws SQLException {
+        if (fetchSize > 0) {
+            connection.setAutoCommit(false);
+            statement.setFetchSize(fetchSize);
         }
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.opengauss;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+class CopyTextEncoderTest {
+
+    private static String encode(CopyTextEncoder encoder) {
+        return new String(encoder.array(), 0, encoder.size(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testEncodeRow() {
+        CopyTextEncoder encoder = new CopyTextEncoder(4);
+        BitSet columns = new BitSet();
+        columns.set(0, 6);
+        encoder.writeRow(new Object[]{-12L, null, true, new byte[]{0, (byte) 0xAB}, new BigDecimal("1E+3"), 7}, columns);
+        Assertions.assertEquals("-12\t\\N\tt\t\\\\x00ab\t1000\t7\n", encode(encoder));
+    }
+
+    @Test
+    void testEscapeText() {
+        CopyTextEncoder encoder = new CopyTextEncoder(16);
+        BitSet columns = new BitSet();
+        columns.set(0);
+        encoder.writeRow(new Object[]{"a\tb\\c\nd\r"}, columns);
+        encoder.writeRow(new Object[]{"\u00e9\u4e2d\ud83d\ude00"}, columns);
+        Assertions.assertEquals("a\\tb\\\\c\\nd\\r\n\u00e9\u4e2d\ud83d\ude00\n", encode(encoder));
+    }
+
+    @Test
+    void testSkipColumnsAndReset() {
+        CopyTextEncoder encoder = new CopyTextEncoder(16);
+        encoder.writeRow(new Object[]{"ignored"}, BitSet.valueOf(new long[]{1}));
+        encoder.reset();
+        BitSet columns = new BitSet();
+        columns.set(0);
+        columns.set(2);
+        encoder.writeRow(new Object[]{Long.MIN_VALUE, "skipped", 0}, columns);
+        Assertions.assertEquals("-9223372036854775808\t0\n", encode(encoder));
+    }
+}
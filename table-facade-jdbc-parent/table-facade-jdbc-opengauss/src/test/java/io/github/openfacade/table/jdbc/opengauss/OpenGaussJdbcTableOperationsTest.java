@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.opengauss;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.test.common.container.OpenGaussContainer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.condition.OS.LINUX;
+
+@Slf4j
+class OpenGaussJdbcTableOperationsTest {
+
+    private static HikariDataSource dataSource;
+
+    private static OpenGaussContainer container;
+
+    private OpenGaussJdbcTableOperations tableOperations;
+
+    @BeforeAll
+    static void setUp() {
+        if (!System.getProperty("os.name").toLowerCase().contains("linux")) {
+            return;
+        }
+        container = new OpenGaussContainer().withCompatibility("B");
+        container.startContainer();
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(String.format("jdbc:postgresql://localhost:5432/%s?currentSchema=%s&reWriteBatchedInserts=true",
+                container.getDatabaseName(), container.getSchema()));
+        config.setUsername(container.getUsername());
+        config.setPassword(container.getPassword());
+        config.setDriverClassName("org.postgresql.Driver");
+        dataSource = new HikariDataSource(config);
+    }
+
+    @AfterAll
+    static void destroy() {
+        if (!System.getProperty("os.name").toLowerCase().contains("linux")) {
+            return;
+        }
+        dataSource.close();
+        container.stopContainer();
+    }
+
+    @BeforeEach
+    void init() throws Exception {
+        if (dataSource == null) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE test_copy_entity (id BIGINT PRIMARY KEY, name VARCHAR(255), payload BYTEA)");
+        }
+        tableOperations = new OpenGaussJdbcTableOperations(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dataSource == null) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("DROP TABLE test_copy_entity");
+        }
+    }
+
+    private static List<TestOpenGaussCopyEntity> entities(int rows) {
+        List<TestOpenGaussCopyEntity> entities = new ArrayList<>(rows);
+        for (long i = 1; i <= rows; i++) {
+            TestOpenGaussCopyEntity entity = new TestOpenGaussCopyEntity();
+            entity.setId(i);
+            entity.setName("Row\t" + i);
+            entity.setPayload(("payload " + i).getBytes(StandardCharsets.UTF_8));
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    @Test
+    @EnabledOnOs(LINUX)
+    void testCopyIn() throws Exception {
+        List<TestOpenGaussCopyEntity> entities = entities(100);
+        entities.get(9).setName(null);
+        entities.get(10).setPayload(null);
+
+        Assertions.assertEquals(100L, tableOperations.copyIn(entities, TestOpenGaussCopyEntity.class));
+
+        TestOpenGaussCopyEntity found = tableOperations.find(
+                new ComparisonCondition("id", ComparisonOperator.EQ, 2L), TestOpenGaussCopyEntity.class);
+        Assertions.assertEquals("Row\t2", found.getName());
+        Assertions.assertArrayEquals("payload 2".getBytes(StandardCharsets.UTF_8), found.getPayload());
+        Assertions.assertNull(tableOperations.find(
+                new ComparisonCondition("id", ComparisonOperator.EQ, 10L), TestOpenGaussCopyEntity.class).getName());
+        Assertions.assertEquals(100L, tableOperations.count("test_copy_entity"));
+    }
+
+    @Test
+    @EnabledOnOs(LINUX)
+    void testWritesWhileStreamingInUnitOfWork() throws Exception {
+        tableOperations.insertAll(entities(10));
+
+        tableOperations.withConnection(operations -> {
+            try (Stream<TestOpenGaussCopyEntity> stream = tableOperations.stream(TestOpenGaussCopyEntity.class, 2)) {
+                Assertions.assertEquals(1L, stream.limit(1).count());
+                operations.deleteAll(TestOpenGaussCopyEntity.class);
+            }
+            return null;
+        });
+        Assertions.assertEquals(0L, tableOperations.count("test_copy_entity"));
+    }
+
+    @Test
+    @EnabledOnOs(LINUX)
+    void testCopyThroughput() throws Exception {
+        int rows = 100_000;
+        List<TestOpenGaussCopyEntity> entities = entities(rows);
+
+        long start = System.nanoTime();
+        Assertions.assertEquals((long) rows, tableOperations.insertAll(entities));
+        long insertNanos = System.nanoTime() - start;
+        tableOperations.deleteAll(TestOpenGaussCopyEntity.class);
+
+        start = System.nanoTime();
+        Assertions.assertEquals((long) rows, tableOperations.copyIn(entities, TestOpenGaussCopyEntity.class));
+        long copyNanos = System.nanoTime() - start;
+
+        log.info("batched insertAll: {} rows/s, copyIn: {} rows/s",
+                rows * 1_000_000_000L / Math.max(insertNanos, 1),
+                rows * 1_000_000_000L / Math.max(copyNanos, 1));
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.reactive;
+
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.jdbc.common.JdbcBaseTableOperations;
+import io.github.openfacade.table.jdbc.common.JdbcTableMetadata;
+import io.github.openfacade.table.reactive.api.BatchOptions;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * {@link ReactiveTableOperations} on top of the blocking JDBC engine. Every call runs on a dedicated executor,
+ * virtual threads when the runtime has them and a fixed pool of platform threads otherwise, so callers on an
+ * event loop never block. At most {@code maxConcurrency} calls touch the database at the same time, which
+ * should not exceed the connection pool size.
+ */
+public class JdbcReactiveTableOperations implements ReactiveTableOperations, AutoCloseable {
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private final JdbcBaseTableOperations delegate;
+
+    private final int maxConcurrency;
+
+    private final Semaphore permits;
+
+    private final Scheduler scheduler;
+
+    private final boolean virtualThreads;
+
+    public JdbcReactiveTableOperations(JdbcBaseTableOperations delegate) {
+        this(delegate, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    public JdbcReactiveTableOperations(JdbcBaseTableOperations delegate, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive.");
+        }
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        ExecutorService executor = newVirtualThreadExecutor();
+        this.virtualThreads = executor != null;
+        if (executor == null) {
+            executor = newPlatformThreadExecutor(maxConcurrency);
+        }
+        this.scheduler = Schedulers.fromExecutorService(executor, "table-facade-jdbc");
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Calls currently waiting for or holding a database permit.
+     */
+    public int getActiveCalls() {
+        return maxConcurrency - permits.availablePermits() + permits.getQueueLength();
+    }
+
+    @Override
+    public <T> Mono<T> insert(T object) {
+        return call(() -> delegate.insert(object));
+    }
+
+    /**
+     * Writes JDBC batches of up to {@code maxRows} objects; the byte limit is left to the driver, which splits
+     * rewritten batches by its packet size.
+     */
+    @Override
+    public <T> Flux<Long> insertAll(Flux<T> objects, BatchOptions options) {
+        return objects.buffer(options.getMaxRows())
+                .concatMap(batch -> call(() -> delegate.insertAll(batch)));
+    }
+
+    @Override
+    public <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns, BatchOptions options) {
+        return objects.buffer(options.getMaxRows())
+                .concatMap(batch -> call(() -> delegate.upsertAll(batch, updateColumns)));
+    }
+
+    @Override
+    public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type) {
+        return call(() -> delegate.update(condition, pairs, type));
+    }
+
+    @Override
+    public <T> Mono<T> find(Condition condition, Class<T> type) {
+        return call(() -> delegate.find(condition, type));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type) {
+        return call(() -> delegate.findAll(type)).flatMapIterable(rows -> rows);
+    }
+
+    /**
+     * Streams through {@link JdbcBaseTableOperations#stream}, pulling rows from the cursor only as downstream
+     * requests them. The connection and its permit are held until the flux terminates or is cancelled. Cancelling
+     * closes the stream on the scheduler too, since the MySQL driver drains the unread rows of a streaming result
+     * set on close and that must not happen on the caller's event loop.
+     */
+    @Override
+    public <T> Flux<T> findAll(Class<T> type, int fetchSize) {
+        return Flux.using(() -> open(type, fetchSize), stream -> Flux.fromStream(stream), stream -> {
+            try {
+                stream.close();
+            } finally {
+                permits.release();
+            }
+        }).subscribeOn(scheduler).cancelOn(scheduler);
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Condition condition, Class<T> type) {
+        return call(() -> delegate.findAll(condition, type)).flatMapIterable(rows -> rows);
+    }
+
+    @Override
+    public <T> Flux<T> scan(Condition condition, Class<T> type, String keyColumn, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        return call(() -> delegate.metadata(type)).flatMapMany(metadata -> {
+            int keyIndex = metadata.columnIndex(keyColumn);
+            if (keyIndex < 0) {
+                return Flux.error(new IllegalArgumentException("Unknown key column '" + keyColumn + "' for entity: " + type.getName()));
+            }
+            return page(condition, type, keyColumn, pageSize)
+                    .expand(page -> {
+                        if (page.size() < pageSize) {
+                            return Mono.empty();
+                        }
+                        Object last = lastKey(metadata, page, keyIndex);
+                        Condition after = new ComparisonCondition(keyColumn, ComparisonOperator.GT, last);
+                        return page(condition == null ? after : new AndCondition(condition, after), type, keyColumn, pageSize);
+                    })
+                    .concatMapIterable(page -> page, 1);
+        });
+    }
+
+    @Override
+    public <T> Mono<Long> delete(Condition condition, Class<T> type) {
+        return call(() -> delegate.delete(condition, type));
+    }
+
+    @Override
+    public <T> Mono<Long> deleteAll(Class<T> type) {
+        return call(() -> delegate.deleteAll(type));
+    }
+
+    @Override
+    public void close() {
+        scheduler.dispose();
+    }
+
+    private <T> Mono<List<T>> page(Condition condition, Class<T> type, String keyColumn, int pageSize) {
+        return call(() -> delegate.findPage(condition, type, keyColumn, pageSize));
+    }
+
+    private <T> Stream<T> open(Class<T> type, int fetchSize) throws Exception {
+        permits.acquire();
+        try {
+            return delegate.stream(type, fetchSize);
+        } catch (Exception | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private static Object lastKey(JdbcTableMetadata metadata, List<?> page, int keyIndex) {
+        return metadata.getMapper().get(page.get(page.size() - 1), keyIndex);
+    }
+
+    private <R> Mono<R> call(Callable<R> call) {
+        return Mono.fromCallable(() -> {
+            permits.acquire();
+            try {
+                return call.call();
+            } finally {
+                permits.release();
+            }
+        }).subscribeOn(scheduler);
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} looked up reflectively, this module still targets
+     * Java 8; returns null before Java 21.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newPlatformThreadExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "table-facade-jdbc-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
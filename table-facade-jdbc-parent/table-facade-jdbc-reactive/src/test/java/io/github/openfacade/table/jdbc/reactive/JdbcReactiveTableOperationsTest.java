@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.jdbc.reactive;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.TableException;
+import io.github.openfacade.table.jdbc.mysql.MysqlJdbcTableOperations;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Testcontainers
+class JdbcReactiveTableOperationsTest {
+
+    @Container
+    private static final MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    private static HikariDataSource dataSource;
+
+    private JdbcReactiveTableOperations tableOperations;
+
+    @BeforeAll
+    static void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(mysqlContainer.getJdbcUrl());
+        config.setUsername(mysqlContainer.getUsername());
+        config.setPassword(mysqlContainer.getPassword());
+        config.setDriverClassName(mysqlContainer.getDriverClassName());
+        config.setMaximumPoolSize(8);
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+
+        dataSource = new HikariDataSource(config);
+    }
+
+    @AfterAll
+    static void close() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void init() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE test_reactive_jdbc_entity ("
+                    + "id BIGINT PRIMARY KEY, "
+                    + "varchar_string_field VARCHAR(255))");
+        }
+        tableOperations = new JdbcReactiveTableOperations(new MysqlJdbcTableOperations(dataSource), 8);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        tableOperations.close();
+        try (Connection connection = dataSource.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.executeUpdate("DROP TABLE test_reactive_jdbc_entity");
+        }
+    }
+
+    private static TestReactiveJdbcEntity entity(long id) {
+        TestReactiveJdbcEntity entity = new TestReactiveJdbcEntity();
+        entity.setId(id);
+        entity.setVarcharStringField("Row " + id);
+        return entity;
+    }
+
+    @Test
+    void testCrud() {
+        tableOperations.insert(entity(1)).block();
+
+        ComparisonCondition condition = new ComparisonCondition("id", ComparisonOperator.EQ, 1L);
+        TestReactiveJdbcEntity found = tableOperations.find(condition, TestReactiveJdbcEntity.class).block();
+        Assertions.assertNotNull(found);
+        Assertions.assertEquals("Row 1", found.getVarcharStringField());
+
+        Object[] pairs = {"varchar_string_field", "Updated"};
+        Assertions.assertEquals(1L, tableOperations.update(condition, pairs, TestReactiveJdbcEntity.class).block());
+        Assertions.assertEquals("Updated",
+                tableOperations.find(condition, TestReactiveJdbcEntity.class).block().getVarcharStringField());
+
+        Assertions.assertEquals(1L, tableOperations.delete(condition, TestReactiveJdbcEntity.class).block());
+        Assertions.assertNull(tableOperations.find(condition, TestReactiveJdbcEntity.class).block());
+    }
+
+    @Test
+    void testInsertAllAndScan() {
+        Flux<TestReactiveJdbcEntity> entities = Flux.range(1, 25).map(i -> entity(i));
+        Long inserted = tableOperations.insertAll(entities).reduce(0L, Long::sum).block();
+        Assertions.assertEquals(25L, inserted);
+
+        List<Long> ids = tableOperations.scan(TestReactiveJdbcEntity.class, "id", 10)
+                .map(TestReactiveJdbcEntity::getId)
+                .collectList()
+                .block();
+        Assertions.assertEquals(Flux.range(1, 25).map(Long::valueOf).collectList().block(), ids);
+        Assertions.assertEquals(25L, tableOperations.deleteAll(TestReactiveJdbcEntity.class).block());
+    }
+
+    @Test
+    void testCancelClosesStreamOffTheCancellingThread() throws Exception {
+        tableOperations.insertAll(Flux.range(1, 100).map(i -> entity(i))).blockLast();
+
+        AtomicReference<Thread> closingThread = new AtomicReference<>();
+        CountDownLatch closed = new CountDownLatch(1);
+        MysqlJdbcTableOperations delegate = new MysqlJdbcTableOperations(dataSource) {
+            @Override
+            public <T> Stream<T> stream(Class<T> type, int fetchSize) throws TableException {
+                return super.stream(type, fetchSize).onClose(() -> {
+                    closingThread.set(Thread.currentThread());
+                    closed.countDown();
+                });
+            }
+        };
+        Scheduler eventLoop = Schedulers.newSingle("event-loop");
+        try (JdbcReactiveTableOperations streaming = new JdbcReactiveTableOperations(delegate, 8)) {
+            List<TestReactiveJdbcEntity> first = streaming.findAll(TestReactiveJdbcEntity.class, 10)
+                    .publishOn(eventLoop)
+                    .take(5)
+                    .collectList()
+                    .block();
+
+            Assertions.assertEquals(5, first.size());
+            Assertions.assertTrue(closed.await(10, TimeUnit.SECONDS));
+            Assertions.assertFalse(closingThread.get().getName().startsWith("event-loop"));
+        } finally {
+            eventLoop.dispose();
+        }
+    }
+
+    @Test
+    void testConcurrentFindThroughput() {
+        int rows = 1000;
+        tableOperations.insertAll(Flux.range(1, rows).map(i -> entity(i))).blockLast();
+
+        long start = System.nanoTime();
+        List<TestReactiveJdbcEntity> found = Flux.range(1, rows)
+                .flatMap(i -> tableOperations.find(new ComparisonCondition("id", ComparisonOperator.EQ, (long) i),
+                        TestReactiveJdbcEntity.class), 256)
+                .collect(Collectors.toList())
+                .block();
+        long nanos = System.nanoTime() - start;
+
+        Assertions.assertEquals(rows, found.size());
+        log.info("concurrent find over {} connections ({} threads): {} ops/s",
+                tableOperations.getMaxConcurrency(),
+                tableOperations.isVirtualThreads() ? "virtual" : "platform",
+                rows * 1_000_000_000L / Math.max(nanos, 1));
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.processor;
+
+import io.github.openfacade.table.api.EntityMappers;
+import io.github.openfacade.table.api.EntityMapping;
+import io.github.openfacade.table.api.anno.Column;
+import io.github.openfacade.table.api.anno.Table;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates an {@link io.github.openfacade.table.api.EntityMapper} for every class annotated with
+ * {@link Table}. Getters and setters are referenced by name only, so accessors added by other processors
+ * such as lombok are fine as long as they exist when the generated source is compiled. Columns are taken from
+ * the same annotations as the runtime mapping: {@link Column} and, by name, Spring Data's {@code @Column}.
+ */
+public class TableMapperProcessor extends AbstractProcessor {
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(Table.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Table.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            if (!isMappable(type)) {
+                continue;
+            }
+            try {
+                generate(type);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to generate table mapper: " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    private boolean isMappable(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Skipping table mapper for abstract class", type);
+            return false;
+        }
+        Element current = type;
+        while (current.getKind() != ElementKind.PACKAGE) {
+            boolean nested = current.getEnclosingElement().getKind() != ElementKind.PACKAGE;
+            if (current.getModifiers().contains(Modifier.PRIVATE)
+                    || (nested && !current.getModifiers().contains(Modifier.STATIC))) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "Skipping table mapper, class must be top level or a non-private static nested class", type);
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String mapperSimpleName = nestedName(type) + EntityMappers.MAPPER_SUFFIX;
+        String entityName = type.getQualifiedName().toString();
+        String tableName = type.getAnnotation(Table.class).name();
+
+        Set<String> methodNames = new HashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getParameters().isEmpty()) {
+                methodNames.add(method.getSimpleName().toString());
+            }
+        }
+        List<ColumnField> columns = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            String columnName = columnName(field);
+            if (columnName != null) {
+                String fieldName = field.getSimpleName().toString();
+                TypeMirror fieldType = field.asType();
+                String getterName = EntityMapping.getterName(fieldName, fieldType.getKind() == TypeKind.BOOLEAN,
+                        "java.lang.Boolean".equals(fieldType.toString()), methodNames::contains);
+                columns.add(new ColumnField(columnName, fieldName, getterName, fieldType));
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by ").append(TableMapperProcessor.class.getName()).append(", do not edit.\n */\n");
+        source.append("public final class ").append(mapperSimpleName)
+                .append(" implements io.github.openfacade.table.api.EntityMapper<").append(entityName).append("> {\n");
+
+        source.append("    private static final java.util.List<String> COLUMN_NAMES = java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+        for (int i = 0; i < columns.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(literal(columns.get(i).columnName));
+        }
+        source.append("));\n\n");
+
+        source.append("    private static final Class<?>[] COLUMN_TYPES = {");
+        for (int i = 0; i < columns.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(erasure(columns.get(i).type)).append(".class");
+        }
+        source.append("};\n\n");
+
+        source.append("    @Override\n    public Class<").append(entityName).append("> entityType() {\n")
+                .append("        return ").append(entityName).append(".class;\n    }\n\n");
+        source.append("    @Override\n    public String tableName() {\n")
+                .append("        return ").append(literal(tableName)).append(";\n    }\n\n");
+        source.append("    @Override\n    public java.util.List<String> columnNames() {\n")
+                .append("        return COLUMN_NAMES;\n    }\n\n");
+        source.append("    @Override\n    public Class<?> columnType(int index) {\n")
+                .append("        return COLUMN_TYPES[index];\n    }\n\n");
+        source.append("    @Override\n    public ").append(entityName).append(" newInstance() {\n")
+                .append("        return new ").append(entityName).append("();\n    }\n\n");
+
+        source.append("    @Override\n    public Object get(").append(entityName).append(" entity, int index) {\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnField column = columns.get(i);
+            source.append("            case ").append(i).append(":\n")
+                    .append("                return entity.").append(column.getterName).append("();\n");
+        }
+        source.append("            default:\n")
+                .append("                throw new IndexOutOfBoundsException(\"Column index \" + index);\n")
+                .append("        }\n    }\n\n");
+
+        source.append("    @Override\n    @SuppressWarnings(\"unchecked\")\n    public void set(").append(entityName)
+                .append(" entity, int index, Object value) {\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnField column = columns.get(i);
+            source.append("            case ").append(i).append(":\n")
+                    .append("                entity.").append(setterName(column)).append("((")
+                    .append(boxedErasure(column.type)).append(") value);\n")
+                    .append("                return;\n");
+        }
+        source.append("            default:\n")
+                .append("                throw new IndexOutOfBoundsException(\"Column index \" + index);\n")
+                .append("        }\n    }\n}\n");
+
+        String qualifiedMapperName = packageName.isEmpty() ? mapperSimpleName : packageName + "." + mapperSimpleName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedMapperName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private String columnName(VariableElement field) {
+        Column column = field.getAnnotation(Column.class);
+        if (column != null) {
+            return column.name();
+        }
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (!annotationType.getQualifiedName().contentEquals(EntityMapping.SPRING_DATA_COLUMN)) {
+                continue;
+            }
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                    processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    return (String) entry.getValue().getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static PackageElement packageOf(Element element) {
+        Element current = element;
+        while (current.getKind() != ElementKind.PACKAGE) {
+            current = current.getEnclosingElement();
+        }
+        return (PackageElement) current;
+    }
+
+    private static String nestedName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element current = type.getEnclosingElement();
+        while (current.getKind() != ElementKind.PACKAGE) {
+            name.insert(0, current.getSimpleName() + "_");
+            current = current.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String boxedErasure(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind()))
+                    .getQualifiedName().toString();
+        }
+        return erasure(type);
+    }
+
+    private static String setterName(ColumnField column) {
+        return "set" + capitalizeFirstChar(column.fieldName);
+    }
+
+    private static String capitalizeFirstChar(String str) {
+        if (str.isEmpty()) {
+            return str;
+        }
+        return str.substring(0, 1).toUpperCase(Locale.US) + str.substring(1);
+    }
+
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static class ColumnField {
+        private final String columnName;
+
+        private final String fieldName;
+
+        private final String getterName;
+
+        private final TypeMirror type;
+
+        ColumnField(String columnName, String fieldName, String getterName, TypeMirror type) {
+            this.columnName = columnName;
+            this.fieldName = fieldName;
+            this.getterName = getterName;
+            this.type = type;
+        }
+    }
+}
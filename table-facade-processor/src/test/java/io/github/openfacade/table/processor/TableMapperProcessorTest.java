@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.processor;
+
+import io.github.openfacade.table.api.EntityMapper;
+import io.github.openfacade.table.api.EntityMappers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+class TableMapperProcessorTest {
+    private static final String ENTITY_SOURCE = String.join("\n",
+            "package demo;",
+            "",
+            "import io.github.openfacade.table.api.anno.Column;",
+            "import io.github.openfacade.table.api.anno.Table;",
+            "",
+            "@Table(name = \"user_table\")",
+            "public class User {",
+            "    @Column(name = \"id\")",
+            "    private long id;",
+            "",
+            "    @Column(name = \"active\")",
+            "    private boolean active;",
+            "",
+            "    @org.springframework.data.relational.core.mapping.Column(\"name\")",
+            "    private String name;",
+            "",
+            "    @Column(name = \"verified\")",
+            "    private Boolean verified;",
+            "",
+            "    public long getId() { return id; }",
+            "    public void setId(long id) { this.id = id; }",
+            "    public boolean isActive() { return active; }",
+            "    public void setActive(boolean active) { this.active = active; }",
+            "    public String getName() { return name; }",
+            "    public void setName(String name) { this.name = name; }",
+            "    public Boolean getVerified() { return verified; }",
+            "    public void setVerified(Boolean verified) { this.verified = verified; }",
+            "}",
+            "");
+
+    // stands in for Spring Data's annotation, which is recognised by name
+    private static final String SPRING_DATA_COLUMN_SOURCE = String.join("\n",
+            "package org.springframework.data.relational.core.mapping;",
+            "",
+            "public @interface Column {",
+            "    String value() default \"\";",
+            "}",
+            "");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGeneratedMapperReadsAndWritesColumns() throws Exception {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("src/demo"));
+        Path classesDir = Files.createDirectories(tempDir.resolve("classes"));
+        Path sourceFile = sourceDir.resolve("User.java");
+        Files.write(sourceFile, ENTITY_SOURCE.getBytes(StandardCharsets.UTF_8));
+        Path annotationDir = Files.createDirectories(tempDir.resolve("src/org/springframework/data/relational/core/mapping"));
+        Path annotationFile = annotationDir.resolve("Column.java");
+        Files.write(annotationFile, SPRING_DATA_COLUMN_SOURCE.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                            "-d", classesDir.toString(), "-proc:only"),
+                    null, fileManager.getJavaFileObjects(sourceFile.toFile(), annotationFile.toFile()));
+            task.setProcessors(Collections.singletonList(new TableMapperProcessor()));
+            Assertions.assertTrue(task.call(), "annotation processing should succeed");
+        }
+
+        Path generated = classesDir.resolve("demo/UserTableMapper.java");
+        Assertions.assertTrue(Files.exists(generated), "mapper source should be generated");
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                            "-d", classesDir.toString(), "-proc:none"),
+                    null, fileManager.getJavaFileObjects(sourceFile.toFile(), annotationFile.toFile(),
+                            generated.toFile()));
+            Assertions.assertTrue(task.call(), "generated mapper should compile");
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<Object> userClass = (Class<Object>) classLoader.loadClass("demo.User");
+            EntityMapper<Object> mapper = EntityMappers.find(userClass);
+            Assertions.assertNotNull(mapper);
+            Assertions.assertEquals("user_table", mapper.tableName());
+            Assertions.assertEquals(Arrays.asList("id", "active", "name", "verified"), mapper.columnNames());
+            Assertions.assertEquals(long.class, mapper.columnType(0));
+
+            Object user = mapper.newInstance();
+            mapper.set(user, 0, 42L);
+            mapper.set(user, 1, true);
+            mapper.set(user, 2, "facade");
+            mapper.set(user, 3, Boolean.TRUE);
+            Assertions.assertEquals(42L, mapper.get(user, 0));
+            Assertions.assertEquals(true, mapper.get(user, 1));
+            Assertions.assertEquals("facade", mapper.get(user, 2));
+            Assertions.assertEquals(Boolean.TRUE, mapper.get(user, 3));
+        }
+    }
+
+    @Test
+    public void testMapperAbsentReturnsNull() {
+        Assertions.assertNull(EntityMappers.find(File.class));
+        Assertions.assertNull(EntityMappers.find(TableMapperProcessorTest.class));
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.reactive.api;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Limits of one multi-row statement, a batch is closed as soon as adding the next row would exceed either.
+ */
+@Getter
+@Setter
+public class BatchOptions {
+    public static final int DEFAULT_MAX_ROWS = 1000;
+
+    public static final long DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    private int maxRows = DEFAULT_MAX_ROWS;
+
+    /**
+     * Estimated size of the bound values, keep it well below the server packet limit.
+     */
+    private long maxBytes = DEFAULT_MAX_BYTES;
+
+    public BatchOptions() {
+    }
+
+    public BatchOptions(int maxRows, long maxBytes) {
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+    }
+}
@@ -20,15 +20,76 @@ import io.github.openfacade.table.api.Condition;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ReactiveTableOperations {
     <T> Mono<T> insert(T object);
 
+    /**
+     * Inserts the objects with multi-row statements, emitting the affected row count of each statement.
+     */
+    <T> Flux<Long> insertAll(Flux<T> objects, BatchOptions options);
+
+    default <T> Flux<Long> insertAll(Flux<T> objects) {
+        return insertAll(objects, new BatchOptions());
+    }
+
+    default <T> Flux<Long> insertAll(Collection<T> objects) {
+        return insertAll(Flux.fromIterable(objects));
+    }
+
+    /**
+     * Inserts the objects with multi-row statements, rows whose key already exists get {@code updateColumns}
+     * overwritten with the new values instead. Emits the affected row count reported for each statement.
+     */
+    <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns, BatchOptions options);
+
+    default <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns) {
+        return upsertAll(objects, updateColumns, new BatchOptions());
+    }
+
     <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type);
 
     <T> Mono<T> find(Condition condition, Class<T> type);
 
     <T> Flux<T> findAll(Class<T> type);
 
+    /**
+     * Streams the table requesting {@code fetchSize} rows per round trip and no more than downstream demands,
+     * 0 keeps the driver default.
+     */
+    <T> Flux<T> findAll(Class<T> type, int fetchSize);
+
+    /**
+     * All rows matching the condition, long IN lists may be read with several statements.
+     */
+    <T> Flux<T> findAll(Condition condition, Class<T> type);
+
+    /**
+     * Iterates the table in {@code keyColumn} order, reading pages of {@code pageSize} rows with
+     * {@code WHERE key > ? ORDER BY key LIMIT ?} only as the subscriber requests them. The key column must be
+     * unique and not null.
+     */
+    default <T> Flux<T> scan(Class<T> type, String keyColumn, int pageSize) {
+        return scan(null, type, keyColumn, pageSize);
+    }
+
+    /**
+     * Keyset scan restricted to the rows matching {@code condition}, which may be null.
+     */
+    <T> Flux<T> scan(Condition condition, Class<T> type, String keyColumn, int pageSize);
+
+    /**
+     * Reads the table as up to {@code parallelism} ranges of {@code keyColumn}, split between its minimum and
+     * maximum and queried concurrently. Ordered emits the rows in key order, unordered as the ranges produce them.
+     * Implementations without range support, or keys that are not integral, read with a single query. The key
+     * column must be unique and not null.
+     */
+    default <T> Flux<T> findAllParallel(Class<T> type, String keyColumn, int parallelism, boolean ordered) {
+        return ordered ? scan(type, keyColumn, BatchOptions.DEFAULT_MAX_ROWS) : findAll(type);
+    }
+
     <T> Mono<Long> delete(Condition condition, Class<T> type);
 
     <T> Mono<Long> deleteAll(Class<T> type);
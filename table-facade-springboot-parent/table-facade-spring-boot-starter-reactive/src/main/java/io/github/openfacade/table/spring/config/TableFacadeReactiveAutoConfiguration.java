@@ -19,24 +19,58 @@ package io.github.openfacade.table.spring.config;
 import io.github.openfacade.table.api.DriverType;
 import io.github.openfacade.table.reactive.api.ReactiveTableManagement;
 import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import io.github.openfacade.table.spring.core.ReactiveBaseTableOperations;
 import io.github.openfacade.table.spring.core.TableFacadeProperties;
 import io.github.openfacade.table.spring.reactive.mysql.ReactiveMysqlTableManagement;
 import io.github.openfacade.table.spring.reactive.mysql.ReactiveMysqlTableOperations;
 import io.github.openfacade.table.spring.reactive.opengauss.ReactiveOpenGaussTableManagement;
 import io.github.openfacade.table.spring.reactive.opengauss.ReactiveOpenGaussTableOperations;
+import io.github.openfacade.table.spring.support.BatchLoadingReactiveTableOperations;
+import io.github.openfacade.table.spring.support.CachingReactiveTableOperations;
+import io.github.openfacade.table.spring.support.CoalescingReactiveTableOperations;
+import io.github.openfacade.table.spring.support.ConcurrencyLimitSpec;
+import io.github.openfacade.table.spring.support.EntityCacheSpec;
+import io.github.openfacade.table.spring.support.LimitingReactiveTableManagement;
+import io.github.openfacade.table.spring.support.LimitingReactiveTableOperations;
+import io.github.openfacade.table.spring.support.OperationType;
+import io.github.openfacade.table.spring.support.ReadWriteSplittingReactiveTableOperations;
+import io.github.openfacade.table.spring.support.ReplicaBalancing;
+import io.github.openfacade.table.spring.support.SingleflightReactiveTableOperations;
+import io.github.openfacade.table.spring.support.TableExporter;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
 import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @AutoConfiguration
 @EnableConfigurationProperties(TableFacadeProperties.class)
-public class TableFacadeReactiveAutoConfiguration {
+public class TableFacadeReactiveAutoConfiguration implements DisposableBean {
     private final TableFacadeProperties tableFacadeProperties;
 
     private final DatabaseClient databaseClient;
 
+    private final List<ConnectionPool> replicaPools = new CopyOnWriteArrayList<>();
+
     public TableFacadeReactiveAutoConfiguration(TableFacadeProperties tableFacadeProperties,
                                                 DatabaseClient databaseClient) {
         this.tableFacadeProperties = tableFacadeProperties;
@@ -46,20 +80,133 @@ public class TableFacadeReactiveAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean(ReactiveTableOperations.class)
     public ReactiveTableOperations reactiveTableOperations() {
+        ReactiveTableOperations operations = createOperations(databaseClient);
+        TableFacadeProperties.ReadReplicas readReplicas = tableFacadeProperties.getReadReplicas();
+        if (!readReplicas.getReplicas().isEmpty()) {
+            List<ReactiveTableOperations> replicas = new ArrayList<>();
+            for (TableFacadeProperties.Replica replica : readReplicas.getReplicas()) {
+                ConnectionPool pool = connectionPool(replica);
+                replicaPools.add(pool);
+                replicas.add(createOperations(DatabaseClient.create(pool)));
+            }
+            ReplicaBalancing balancing = ReplicaBalancing.valueOf(
+                    readReplicas.getBalancing().toUpperCase(Locale.ROOT).replace('-', '_'));
+            operations = new ReadWriteSplittingReactiveTableOperations(operations, replicas, balancing,
+                    readReplicas.getReadYourWritesWindow());
+        }
+        return decorate(operations);
+    }
+
+    private ReactiveBaseTableOperations createOperations(DatabaseClient client) {
+        ReactiveBaseTableOperations operations;
         if (tableFacadeProperties.getDriverType().equals(DriverType.openGauss)) {
-            return new ReactiveOpenGaussTableOperations(databaseClient);
+            operations = new ReactiveOpenGaussTableOperations(client);
         } else {
-            return new ReactiveMysqlTableOperations(databaseClient);
+            operations = new ReactiveMysqlTableOperations(client);
+        }
+        TableFacadeProperties.Fetch fetch = tableFacadeProperties.getFetch();
+        operations.setDefaultFetchSize(fetch.getDefaultSize());
+        fetch.getTables().forEach(operations::setFetchSize);
+        int maxParallelism = tableFacadeProperties.getParallelScan().getMaxParallelism();
+        operations.setMaxParallelism(Math.min(maxParallelism > 0 ? maxParallelism : Integer.MAX_VALUE,
+                poolMaxSize(client.getConnectionFactory())));
+        return operations;
+    }
+
+    private static int poolMaxSize(ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof ConnectionPool pool) {
+            return pool.getMetrics().map(PoolMetrics::getMaxAllocatedSize).orElse(Integer.MAX_VALUE);
         }
+        return Integer.MAX_VALUE;
+    }
+
+    private static ConnectionPool connectionPool(TableFacadeProperties.Replica replica) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(replica.getUrl()).mutate();
+        if (replica.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, replica.getPassword());
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        if (connectionFactory instanceof ConnectionPool pool) {
+            return pool;
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(1)
+                .maxSize(replica.getMaxPoolSize())
+                .build());
+    }
+
+    private ReactiveTableOperations decorate(ReactiveTableOperations operations) {
+        Map<OperationType, ConcurrencyLimitSpec> limits = concurrencyLimits();
+        limits.remove(OperationType.MANAGEMENT);
+        if (!limits.isEmpty()) {
+            operations = new LimitingReactiveTableOperations(operations, limits);
+        }
+        TableFacadeProperties.InsertCoalescing coalescing = tableFacadeProperties.getInsertCoalescing();
+        if (coalescing.isEnabled()) {
+            TransactionalOperator transactionalOperator = TransactionalOperator.create(
+                    new R2dbcTransactionManager(databaseClient.getConnectionFactory()));
+            operations = new CoalescingReactiveTableOperations(operations, coalescing.getWindow(), coalescing.getMaxRows(),
+                    transactionalOperator);
+        }
+        TableFacadeProperties.FindBatching batching = tableFacadeProperties.getFindBatching();
+        if (batching.isEnabled()) {
+            operations = new BatchLoadingReactiveTableOperations(operations, batching.getWindow(), batching.getMaxSize());
+        }
+        if (tableFacadeProperties.getSingleflight().isEnabled()) {
+            operations = new SingleflightReactiveTableOperations(operations);
+        }
+        Map<String, TableFacadeProperties.CacheTable> cacheTables = tableFacadeProperties.getCache().getTables();
+        if (!cacheTables.isEmpty()) {
+            Map<String, EntityCacheSpec> specs = new HashMap<>();
+            cacheTables.forEach((table, spec) -> specs.put(table, new EntityCacheSpec(spec.getMaxEntries(), spec.getTtl())));
+            operations = new CachingReactiveTableOperations(operations, specs);
+        }
+        return operations;
+    }
+
+    private Map<OperationType, ConcurrencyLimitSpec> concurrencyLimits() {
+        Map<OperationType, ConcurrencyLimitSpec> limits = new EnumMap<>(OperationType.class);
+        tableFacadeProperties.getConcurrencyLimit().getOperations().forEach((type, limit) ->
+                limits.put(OperationType.valueOf(type.toUpperCase(Locale.ROOT)), new ConcurrencyLimitSpec(
+                        limit.getInitialLimit(), limit.getMinLimit(), limit.getMaxLimit(),
+                        limit.getLatencyThreshold(), limit.getMaxQueue())));
+        return limits;
     }
 
     @Bean
     @ConditionalOnMissingBean(ReactiveTableManagement.class)
     public ReactiveTableManagement reactiveTableManagement() {
+        ReactiveTableManagement management;
         if (tableFacadeProperties.getDriverType().equals(DriverType.openGauss)) {
-            return new ReactiveOpenGaussTableManagement(tableFacadeProperties.getOpenGauss(), databaseClient);
+            management = new ReactiveOpenGaussTableManagement(tableFacadeProperties.getOpenGauss(), databaseClient);
         } else {
-            return new ReactiveMysqlTableManagement(databaseClient);
+            management = new ReactiveMysqlTableManagement(databaseClient);
+        }
+        ConcurrencyLimitSpec limit = concurrencyLimits().get(OperationType.MANAGEMENT);
+        return limit == null ? management : new LimitingReactiveTableManagement(management, limit);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(TableExporter.class)
+    public TableExporter tableExporter(ReactiveTableOperations reactiveTableOperations) {
+        return new TableExporter(reactiveTableOperations);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.table.facade.warmup", name = "enabled", havingValue = "true")
+    public TableMetadataWarmer tableMetadataWarmer(ReactiveTableOperations reactiveTableOperations,
+                                                   ApplicationStartup applicationStartup) {
+        return new TableMetadataWarmer(tableFacadeProperties.getWarmup(), reactiveTableOperations, applicationStartup);
+    }
+
+    @Override
+    public void destroy() {
+        for (ConnectionPool pool : replicaPools) {
+            pool.dispose();
         }
+        replicaPools.clear();
     }
 }
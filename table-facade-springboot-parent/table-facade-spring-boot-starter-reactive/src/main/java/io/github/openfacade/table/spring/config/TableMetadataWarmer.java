@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.config;
+
+import io.github.openfacade.table.api.anno.Table;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import io.github.openfacade.table.spring.core.ReactiveBaseTableOperations;
+import io.github.openfacade.table.spring.core.TableFacadeProperties;
+import io.github.openfacade.table.spring.support.ForwardingReactiveTableOperations;
+import io.github.openfacade.table.spring.support.ReadWriteSplittingReactiveTableOperations;
+import io.github.openfacade.table.spring.util.TableMetadataUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scans the configured packages for entities when the context starts and parses their metadata in parallel,
+ * so the first request after a deployment does not pay for it and bad mappings fail the startup. The startup
+ * step reports the time the warmup added to the startup next to the time the same parsing would have added to
+ * first requests without it, measured on the primary registry alone.
+ */
+@Slf4j
+public class TableMetadataWarmer implements SmartInitializingSingleton {
+    public static final String STARTUP_STEP_NAME = "table.facade.warmup";
+
+    private final TableFacadeProperties.Warmup warmup;
+
+    private final ReactiveBaseTableOperations primary;
+
+    private final List<ReactiveBaseTableOperations> replicas;
+
+    private final ApplicationStartup applicationStartup;
+
+    private final LongAdder parseNanos = new LongAdder();
+
+    public TableMetadataWarmer(TableFacadeProperties.Warmup warmup,
+                               ReactiveTableOperations reactiveTableOperations,
+                               ApplicationStartup applicationStartup) {
+        this.warmup = warmup;
+        this.replicas = new ArrayList<>();
+        this.primary = collectTargets(reactiveTableOperations, replicas);
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        StartupStep step = applicationStartup.start(STARTUP_STEP_NAME);
+        long start = System.nanoTime();
+        Set<Class<?>> entities = scanEntities();
+        warmup(entities);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long firstUseMillis = TimeUnit.NANOSECONDS.toMillis(parseNanos.sum());
+        step.tag("entities", String.valueOf(entities.size()));
+        step.tag("durationMillis", String.valueOf(elapsedMillis));
+        // without warmup each entity is parsed on its first use of the primary, one at a time on the request path
+        step.tag("firstUseMillis", String.valueOf(firstUseMillis));
+        step.end();
+        log.info("warmed up metadata of {} table entities in {} ms, parsing them on first use would take {} ms",
+                entities.size(), elapsedMillis, firstUseMillis);
+    }
+
+    Set<Class<?>> scanEntities() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Table.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(org.springframework.data.relational.core.mapping.Table.class));
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        Set<Class<?>> entities = new LinkedHashSet<>();
+        for (String basePackage : warmup.getBasePackages()) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                entities.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+        }
+        return entities;
+    }
+
+    void warmup(Set<Class<?>> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(warmup.getParallelism(), entities.size())));
+        try {
+            Map<Class<?>, Future<?>> futures = new LinkedHashMap<>();
+            for (Class<?> entity : entities) {
+                futures.put(entity, executor.submit(() -> register(entity)));
+            }
+            List<String> failures = new ArrayList<>();
+            for (Map.Entry<Class<?>, Future<?>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                } catch (ExecutionException e) {
+                    failures.add(entry.getKey().getName() + ": " + e.getCause().getMessage());
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException("Invalid table entity mappings: " + String.join("; ", failures));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while warming up table metadata", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void register(Class<?> entity) {
+        long start = System.nanoTime();
+        if (primary == null) {
+            TableMetadataUtil.parseClass(entity);
+        } else {
+            primary.register(entity);
+        }
+        parseNanos.add(System.nanoTime() - start);
+        for (ReactiveBaseTableOperations replica : replicas) {
+            replica.register(entity);
+        }
+    }
+
+    /**
+     * Looks through the decorators for the operations that hold a metadata registry. Returns the primary, or null
+     * when there is none, and adds the ones found behind read replicas to the given list.
+     */
+    private static ReactiveBaseTableOperations collectTargets(ReactiveTableOperations operations,
+                                                              List<ReactiveBaseTableOperations> replicas) {
+        while (operations instanceof ForwardingReactiveTableOperations forwarding) {
+            if (forwarding instanceof ReadWriteSplittingReactiveTableOperations splitting) {
+                for (ReactiveTableOperations replica : splitting.getReplicas()) {
+                    ReactiveBaseTableOperations base = collectTargets(replica, replicas);
+                    if (base != null) {
+                        replicas.add(base);
+                    }
+                }
+            }
+            operations = forwarding.getDelegate();
+        }
+        return operations instanceof ReactiveBaseTableOperations base ? base : null;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.openfacade.table.spring.config;
+
+import io.github.openfacade.table.spring.config.warmup.invalid.UnreadableEntity;
+import io.github.openfacade.table.spring.config.warmup.valid.WarmupOrder;
+import io.github.openfacade.table.spring.config.warmup.valid.WarmupUser;
+import io.github.openfacade.table.spring.reactive.mysql.ReactiveMysqlTableOperations;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+class TableMetadataWarmerTest {
+    private static final String VALID_PACKAGE = "io.github.openfacade.table.spring.config.warmup.valid";
+
+    private static final String INVALID_PACKAGE = "io.github.openfacade.table.spring.config.warmup.invalid";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TableFacadeReactiveAutoConfiguration.class))
+            .withUserConfiguration(RecordingConfiguration.class)
+            .withPropertyValues("spring.table.facade.driver-type=mysql");
+
+    @Test
+    public void testDisabledByDefault() {
+        contextRunner.withPropertyValues("spring.table.facade.warmup.base-packages=" + VALID_PACKAGE)
+                .run(context -> {
+                    Assertions.assertNull(context.getStartupFailure());
+                    Assertions.assertTrue(context.getBeansOfType(TableMetadataWarmer.class).isEmpty());
+                    Assertions.assertTrue(context.getBean(RecordingTableOperations.class).registered.isEmpty());
+                });
+    }
+
+    @Test
+    public void testRegistersScannedEntitiesOffTheStartingThread() {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        contextRunner.withInitializer(context -> context.setApplicationStartup(startup))
+                .withPropertyValues("spring.table.facade.warmup.enabled=true",
+                        "spring.table.facade.warmup.base-packages=" + VALID_PACKAGE,
+                        "spring.table.facade.warmup.parallelism=2")
+                .run(context -> {
+                    Assertions.assertNull(context.getStartupFailure());
+                    RecordingTableOperations operations = context.getBean(RecordingTableOperations.class);
+                    Assertions.assertEquals(Set.of(WarmupUser.class, WarmupOrder.class), operations.registered);
+                    Assertions.assertFalse(operations.threads.contains(Thread.currentThread().getName()));
+                });
+
+        Map<String, String> tags = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : startup.getBufferedTimeline().getEvents()) {
+            if (event.getStartupStep().getName().equals(TableMetadataWarmer.STARTUP_STEP_NAME)) {
+                for (StartupStep.Tag tag : event.getStartupStep().getTags()) {
+                    tags.put(tag.getKey(), tag.getValue());
+                }
+            }
+        }
+        Assertions.assertEquals("2", tags.get("entities"));
+        Assertions.assertTrue(tags.containsKey("durationMillis"));
+        Assertions.assertTrue(tags.containsKey("firstUseMillis"));
+    }
+
+    @Test
+    public void testInvalidMappingFailsStartup() {
+        contextRunner.withPropertyValues("spring.table.facade.warmup.enabled=true",
+                        "spring.table.facade.warmup.base-packages=" + VALID_PACKAGE + "," + INVALID_PACKAGE)
+                .run(context -> {
+                    Throwable failure = NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure());
+                    Assertions.assertInstanceOf(IllegalStateException.class, failure);
+                    Assertions.assertTrue(failure.getMessage().contains(UnreadableEntity.class.getName()));
+                });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class RecordingConfiguration {
+        @Bean
+        public DatabaseClient databaseClient() {
+            return Mockito.mock(DatabaseClient.class);
+        }
+
+        @Bean
+        public RecordingTableOperations reactiveTableOperations(DatabaseClient databaseClient) {
+            return new RecordingTableOperations(databaseClient);
+        }
+    }
+
+    static class RecordingTableOperations extends ReactiveMysqlTableOperations {
+        final Set<Class<?>> registered = ConcurrentHashMap.newKeySet();
+
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        RecordingTableOperations(DatabaseClient databaseClient) {
+            super(databaseClient);
+        }
+
+        @Override
+        public void register(Class<?>... types) {
+            super.register(types);
+            registered.addAll(Arrays.asList(types));
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+}
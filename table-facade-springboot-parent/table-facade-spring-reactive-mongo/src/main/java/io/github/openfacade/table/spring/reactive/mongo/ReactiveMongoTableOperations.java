@@ -17,17 +17,30 @@
 package io.github.openfacade.table.spring.reactive.mongo;
 
 import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.spring.core.InsertRow;
 import io.github.openfacade.table.spring.core.ReactiveBaseTableOperations;
 import io.github.openfacade.table.spring.core.TableMetadata;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public class ReactiveMongoTableOperations extends ReactiveBaseTableOperations {
     @Override
     public <T> Mono<T> insert(T object, TableMetadata metadata) {
         return null;
     }
 
+    @Override
+    protected Mono<Long> insertBatch(List<InsertRow> rows) {
+        return null;
+    }
+
+    @Override
+    protected Mono<Long> upsertBatch(List<InsertRow> rows, List<String> updateColumns) {
+        return null;
+    }
+
     @Override
     public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type, TableMetadata metadata) {
         return null;
@@ -39,7 +52,22 @@ public class ReactiveMongoTableOperations extends ReactiveBaseTableOperations {
     }
 
     @Override
-    public <T> Flux<T> findAll(Class<T> type, TableMetadata metadata) {
+    public <T> Flux<T> findAll(Class<T> type, TableMetadata metadata, int fetchSize) {
+        return null;
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Condition condition, Class<T> type, TableMetadata metadata) {
+        return null;
+    }
+
+    @Override
+    public <T> Flux<T> findPage(Condition condition, Class<T> type, TableMetadata metadata, String orderColumn, int limit) {
+        return null;
+    }
+
+    @Override
+    public <T> Mono<Object[]> findKeyRange(Class<T> type, TableMetadata metadata, String keyColumn) {
         return null;
     }
 
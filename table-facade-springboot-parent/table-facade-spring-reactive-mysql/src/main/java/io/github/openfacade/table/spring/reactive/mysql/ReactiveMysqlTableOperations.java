@@ -16,78 +16,64 @@
 
 package io.github.openfacade.table.spring.reactive.mysql;
 
-import io.github.openfacade.table.api.ComparisonCondition;
 import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.spring.core.ColumnAccessor;
+import io.github.openfacade.table.spring.core.InsertRow;
 import io.github.openfacade.table.spring.core.ReactiveBaseTableOperations;
+import io.github.openfacade.table.spring.core.SqlTemplate;
+import io.github.openfacade.table.spring.core.SqlTemplateCache;
 import io.github.openfacade.table.spring.core.TableMetadata;
-import io.github.openfacade.table.spring.util.TableMetadataUtil;
+import io.github.openfacade.table.sql.common.SqlCondition;
+import io.github.openfacade.table.sql.mysql.MysqlSqlUtil;
 import io.r2dbc.spi.Row;
 import lombok.RequiredArgsConstructor;
-import org.jetbrains.annotations.Nullable;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.lang.reflect.Method;
-import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class ReactiveMysqlTableOperations extends ReactiveBaseTableOperations {
     private final DatabaseClient databaseClient;
 
-    public <T> Mono<T> insertOnDuplicateKeyUpdate(T object, Object[] pairs) {
-        Class<?> type = object.getClass();
-        classMap.putIfAbsent(type, TableMetadataUtil.parseClass(type));
-        TableMetadata metadata = classMap.get(type);
-
-        String tableName = MysqlUtil.quoteIdentifier(metadata.getTableName());
-
-        Map<String, Object> parameters = metadata.getGetterMap().entrySet().stream()
-                .map(entry -> {
-                    try {
-                        return new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue().invoke(object));
-                    } catch (Exception e) {
-                        throw new RuntimeException("Error invoking getter", e);
-                    }
-                })
-                .filter(entry -> entry.getValue() != null) // Filter out null values
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-        if (parameters.isEmpty()) {
-            throw new IllegalArgumentException("Cannot insert an object with all fields as null.");
+    @Override
+    public void register(Class<?>... types) {
+        super.register(types);
+        for (Class<?> type : types) {
+            TableMetadata metadata = metadataRegistry.get(type);
+            selectTemplate(type, metadata);
+            deleteTemplate(type, metadata);
+            BitSet allColumns = new BitSet();
+            allColumns.set(0, metadata.getColumnMap().size());
+            insertTemplate(type, metadata, allColumns);
         }
+    }
 
-        List<String> columns = parameters.keySet().stream().toList();
-        List<String> escapedColumns = columns.stream().map(identifier -> MysqlUtil.quoteIdentifier(identifier)).collect(Collectors.toList());
-        String placeholders = columns.stream().map(col -> "?").collect(Collectors.joining(", "));
+    public <T> Mono<T> insertOnDuplicateKeyUpdate(T object, Object[] pairs) {
+        Class<?> type = object.getClass();
+        TableMetadata metadata = metadataRegistry.get(type);
 
-        if (pairs.length % 2 != 0) {
-            throw new IllegalArgumentException("Pairs must contain an even number of elements (key-value pairs).");
+        Object[] values = metadata.columnValues(object);
+        BitSet shape = TableMetadata.nonNullShape(values);
+        if (shape.isEmpty()) {
+            throw new IllegalArgumentException("Cannot insert an object with all fields as null.");
         }
 
-        String onDuplicateKeyUpdateClause = IntStream.range(0, pairs.length / 2)
-                .mapToObj(i -> MysqlUtil.quoteIdentifier((String) pairs[2 * i]) + " = ?")
-                .collect(Collectors.joining(", "));
-
-        String query = String.format(
-                "INSERT INTO %s (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s",
-                tableName,
-                String.join(", ", escapedColumns),
-                placeholders,
-                onDuplicateKeyUpdateClause
-        );
+        List<String> updateColumns = pairColumns(pairs);
+        SqlTemplate template = sqlTemplateCache.get(type, SqlTemplateCache.Operation.UPSERT, List.of(shape, updateColumns),
+                () -> new SqlTemplate(MysqlSqlUtil.insertOnDuplicateKeyUpdate(metadata.getTableName(),
+                        metadata.columnNames(shape), updateColumns), shape));
 
-        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(query);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(template.getSql());
 
         int index = 0;
-        for (String column : columns) {
-            spec = spec.bind(index++, parameters.get(column));
+        for (int column : template.getBindColumns()) {
+            spec = spec.bind(index++, values[column]);
         }
 
         for (int i = 1; i < pairs.length; i += 2) {
@@ -99,57 +85,69 @@ public class ReactiveMysqlTableOperations extends ReactiveBaseTableOperations {
 
     @Override
     public <T> Mono<T> insert(T object, TableMetadata metadata) {
-        String tableName = MysqlUtil.quoteIdentifier(metadata.getTableName());
-
-        Map<String, Object> parameters = metadata.getGetterMap().entrySet().stream()
-                .map(entry -> {
-                    try {
-                        return new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue().invoke(object));
-                    } catch (Exception e) {
-                        throw new RuntimeException("Error invoking getter", e);
-                    }
-                })
-                .filter(entry -> entry.getValue() != null) // Filter out null values
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-        if (parameters.isEmpty()) {
+        Object[] values = metadata.columnValues(object);
+        BitSet shape = TableMetadata.nonNullShape(values);
+        if (shape.isEmpty()) {
             throw new IllegalArgumentException("Cannot insert an object with all fields as null.");
         }
 
-        List<String> columns = parameters.keySet().stream().toList();
-
-        List<String> escapedColumns = columns.stream().map(identifier -> MysqlUtil.quoteIdentifier(identifier))
-                .collect(Collectors.toList());
-
-        String placeholders = columns.stream()
-                .map(col -> "?")
-                .collect(Collectors.joining(", "));
+        SqlTemplate template = insertTemplate(object.getClass(), metadata, shape);
 
-        String query = String.format("INSERT INTO %s (%s) VALUES (%s)", tableName, String.join(", ", escapedColumns), placeholders);
-
-        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(query);
-        for (int i = 0; i < columns.size(); i++) {
-            spec = spec.bind(i, parameters.get(columns.get(i)));
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(template.getSql());
+        int[] bindColumns = template.getBindColumns();
+        for (int i = 0; i < bindColumns.length; i++) {
+            spec = spec.bind(i, values[bindColumns[i]]);
         }
         return spec.fetch().rowsUpdated().thenReturn(object);
     }
 
+    @Override
+    protected Mono<Long> insertBatch(List<InsertRow> rows) {
+        InsertRow first = rows.get(0);
+        TableMetadata metadata = first.getMetadata();
+        BitSet shape = first.getShape();
+        SqlTemplate template = sqlTemplateCache.get(first.getType(), SqlTemplateCache.Operation.INSERT, List.of(shape, rows.size()),
+                () -> new SqlTemplate(MysqlSqlUtil.insert(metadata.getTableName(), metadata.columnNames(shape), rows.size()), shape));
+
+        return bindRows(databaseClient.sql(template.getSql()), template, rows)
+                .fetch()
+                .rowsUpdated()
+                .map(Long::valueOf);
+    }
+
+    @Override
+    protected Mono<Long> upsertBatch(List<InsertRow> rows, List<String> updateColumns) {
+        InsertRow first = rows.get(0);
+        TableMetadata metadata = first.getMetadata();
+        BitSet shape = first.getShape();
+        SqlTemplate template = sqlTemplateCache.get(first.getType(), SqlTemplateCache.Operation.UPSERT,
+                List.of(shape, rows.size(), updateColumns),
+                () -> new SqlTemplate(MysqlSqlUtil.insertOnDuplicateKeyUpdateValues(metadata.getTableName(),
+                        metadata.columnNames(shape), rows.size(), updateColumns), shape));
+
+        return bindRows(databaseClient.sql(template.getSql()), template, rows)
+                .fetch()
+                .rowsUpdated()
+                .map(Long::valueOf);
+    }
+
     @Override
     public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type, TableMetadata metadata) {
-        String tableName = MysqlUtil.quoteIdentifier(metadata.getTableName());
         if (pairs.length % 2 != 0) {
             throw new IllegalArgumentException("Pairs must be an even number.");
         }
+        List<String> updateColumns = pairColumns(pairs);
+        SqlCondition where = SqlCondition.render(condition, '`');
+        SqlTemplate template = sqlTemplateCache.get(type, SqlTemplateCache.Operation.UPDATE, List.of(updateColumns, where.getSql()),
+                () -> new SqlTemplate(MysqlSqlUtil.update(metadata.getTableName(), updateColumns) + " WHERE " + where.getSql()));
 
-        String setClause = IntStream.range(0, pairs.length / 2)
-                .mapToObj(i -> MysqlUtil.quoteIdentifier((String) pairs[2 * i]) + " = ?")
-                .collect(Collectors.joining(", "));
-
-        String query = "UPDATE " + tableName + " SET " + setClause + " WHERE " + condition(condition);
-
-        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(query);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(template.getSql());
+        int index = 0;
         for (int i = 1; i < pairs.length; i += 2) {
-            spec = spec.bind(i / 2, pairs[i]);
+            spec = spec.bind(index++, pairs[i]);
+        }
+        for (Object value : where.getValues()) {
+            spec = spec.bind(index++, value);
         }
 
         return spec.fetch().rowsUpdated().map(Long::valueOf);
@@ -157,47 +155,81 @@ public class ReactiveMysqlTableOperations extends ReactiveBaseTableOperations {
 
     @Override
     public <T> Mono<T> find(Condition condition, Class<T> type, TableMetadata metadata) {
-        String tableName = MysqlUtil.quoteIdentifier(metadata.getTableName());
-        List<String> escapedColumns = metadata.getSetterMap().keySet().stream()
-                .map(identifier -> MysqlUtil.quoteIdentifier(identifier))
-                .collect(Collectors.toList());
+        SqlCondition where = SqlCondition.render(condition, '`');
 
-        String query = "SELECT " + String.join(", ", escapedColumns) + " FROM " + tableName + " WHERE " + condition(condition);
+        return bind(databaseClient.sql(selectTemplate(type, metadata, where).getSql()), where)
+                .map((row, metadataAccessor) -> mapRowToEntity(row, type, metadata))
+                .one();
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type, TableMetadata metadata, int fetchSize) {
+        String query = selectTemplate(type, metadata).getSql();
 
+        if (fetchSize <= 0) {
+            return databaseClient.sql(query)
+                    .map((row, metadataAccessor) -> mapRowToEntity(row, type, metadata))
+                    .all();
+        }
         return databaseClient.sql(query)
+                .filter(statement -> statement.fetchSize(fetchSize))
                 .map((row, metadataAccessor) -> mapRowToEntity(row, type, metadata))
-                .one();
+                .all()
+                .limitRate(fetchSize);
     }
 
     @Override
-    public <T> Flux<T> findAll(Class<T> type, TableMetadata metadata) {
-        String tableName = MysqlUtil.quoteIdentifier(metadata.getTableName());
-        List<String> escapedColumns = metadata.getSetterMap().keySet().stream()
-                .map(identifier -> MysqlUtil.quoteIdentifier(identifier))
-                .collect(Collectors.toList());
+    public <T> Flux<T> findAll(Condition condition, Class<T> type, TableMetadata metadata) {
+        SqlCondition where = SqlCondition.render(condition, '`');
 
-        String query = "SELECT " + String.join(", ", escapedColumns) + " FROM " + tableName;
+        return bind(databaseClient.sql(selectTemplate(type, metadata, where).getSql()), where)
+                .map((row, metadataAccessor) -> mapRowToEntity(row, type, metadata))
+                .all();
+    }
 
-        return databaseClient.sql(query)
+    @Override
+    public <T> Flux<T> findPage(Condition condition, Class<T> type, TableMetadata metadata, String orderColumn, int limit) {
+        SqlCondition where = condition == null ? null : SqlCondition.render(condition, '`');
+        String whereSql = where == null ? null : where.getSql();
+        SqlTemplate template = sqlTemplateCache.get(type, SqlTemplateCache.Operation.SCAN,
+                Arrays.asList(orderColumn, whereSql),
+                () -> new SqlTemplate(MysqlSqlUtil.selectOrderByLimit(metadata.getTableName(),
+                        List.copyOf(metadata.getColumnMap().keySet()), whereSql, orderColumn)));
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(template.getSql());
+        int index = 0;
+        if (where != null) {
+            spec = bind(spec, where);
+            index = where.getValues().size();
+        }
+        return spec.bind(index, limit)
                 .map((row, metadataAccessor) -> mapRowToEntity(row, type, metadata))
                 .all();
     }
 
+    @Override
+    public <T> Mono<Object[]> findKeyRange(Class<T> type, TableMetadata metadata, String keyColumn) {
+        SqlTemplate template = sqlTemplateCache.get(type, SqlTemplateCache.Operation.KEY_RANGE, keyColumn,
+                () -> new SqlTemplate(MysqlSqlUtil.selectMinMax(metadata.getTableName(), keyColumn)));
+
+        return databaseClient.sql(template.getSql())
+                .map((row, metadataAccessor) -> new Object[]{row.get(0), row.get(1)})
+                .one();
+    }
+
     private <T> T mapRowToEntity(Row row, Class<T> type, TableMetadata metadata) {
         T instance;
         try {
-            instance = type.getDeclaredConstructor().newInstance();
+            instance = type.cast(metadata.getInstantiator().get());
         } catch (Exception e) {
             throw new RuntimeException("Error creating instance of: " + type.getName(), e);
         }
 
-        for (Map.Entry<String, Method> entry : metadata.getSetterMap().entrySet()) {
-            String columnName = entry.getKey();
-            Method setter = entry.getValue();
-            Class<?> parameterType = setter.getParameterTypes()[0];
+        for (ColumnAccessor accessor : metadata.getColumns()) {
+            String columnName = accessor.getColumnName();
 
             try {
-                setter.invoke(instance, row.get(columnName, parameterType));
+                accessor.set(instance, row.get(columnName, accessor.getFieldType()));
             } catch (Exception e) {
                 throw new RuntimeException(
                         "Error setting field '" + columnName + "' for entity: " + type.getName(), e
@@ -210,10 +242,11 @@ public class ReactiveMysqlTableOperations extends ReactiveBaseTableOperations {
 
     @Override
     public <T> Mono<Long> delete(Condition condition, Class<T> type, TableMetadata metadata) {
-        String tableName = MysqlUtil.quoteIdentifier(metadata.getTableName());
-        String query = "DELETE FROM " + tableName + " WHERE " + condition(condition);
+        SqlCondition where = SqlCondition.render(condition, '`');
+        SqlTemplate template = sqlTemplateCache.get(type, SqlTemplateCache.Operation.DELETE, where.getSql(),
+                () -> new SqlTemplate(deleteTemplate(type, metadata).getSql() + " WHERE " + where.getSql()));
 
-        return databaseClient.sql(query)
+        return bind(databaseClient.sql(template.getSql()), where)
                 .fetch()
                 .rowsUpdated()
                 .map(Long::valueOf);
@@ -221,8 +254,7 @@ public class ReactiveMysqlTableOperations extends ReactiveBaseTableOperations {
 
     @Override
     public <T> Mono<Long> deleteAll(Class<T> type, TableMetadata metadata) {
-        String tableName = MysqlUtil.quoteIdentifier(metadata.getTableName());
-        String query = "DELETE FROM " + tableName;
+        String query = deleteTemplate(type, metadata).getSql();
 
         return databaseClient.sql(query)
                 .fetch()
@@ -230,31 +262,44 @@ public class ReactiveMysqlTableOperations extends ReactiveBaseTableOperations {
                 .map(Long::valueOf);
     }
 
-    private String condition(Condition condition) {
-        if (condition instanceof ComparisonCondition comparisonCondition) {
-            return MysqlUtil.quoteIdentifier(comparisonCondition.getColumn()) + " " + comparisonCondition.getOperator().symbol() + " " + escapeValue(comparisonCondition.getValue());
-        } else {
-            throw new IllegalArgumentException("Unsupported condition type: " + condition.getClass().getName());
-        }
+    private SqlTemplate selectTemplate(Class<?> type, TableMetadata metadata) {
+        return sqlTemplateCache.get(type, SqlTemplateCache.Operation.SELECT, null,
+                () -> new SqlTemplate(MysqlSqlUtil.select(metadata.getTableName(), List.copyOf(metadata.getColumnMap().keySet()))));
     }
 
-    private String escapeValue(@Nullable Object value) {
-        if (value == null) {
-            return "NULL";
-        }
+    private SqlTemplate selectTemplate(Class<?> type, TableMetadata metadata, SqlCondition where) {
+        return sqlTemplateCache.get(type, SqlTemplateCache.Operation.SELECT, where.getSql(),
+                () -> new SqlTemplate(selectTemplate(type, metadata).getSql() + " WHERE " + where.getSql()));
+    }
 
-        if (value instanceof String) {
-            return "'" + ((String) value).replace("\\", "\\\\").replace("'", "\\'") + "'";
-        }
+    private SqlTemplate insertTemplate(Class<?> type, TableMetadata metadata, BitSet shape) {
+        return sqlTemplateCache.get(type, SqlTemplateCache.Operation.INSERT, shape,
+                () -> new SqlTemplate(MysqlSqlUtil.insert(metadata.getTableName(), metadata.columnNames(shape)), shape));
+    }
 
-        if (value instanceof Boolean) {
-            return (Boolean) value ? "1" : "0";
-        }
+    private SqlTemplate deleteTemplate(Class<?> type, TableMetadata metadata) {
+        return sqlTemplateCache.get(type, SqlTemplateCache.Operation.DELETE, null,
+                () -> new SqlTemplate(MysqlSqlUtil.deleteAll(metadata.getTableName())));
+    }
 
-        if (value instanceof Number) {
-            return value.toString();
+    private static DatabaseClient.GenericExecuteSpec bindRows(DatabaseClient.GenericExecuteSpec spec, SqlTemplate template,
+                                                              List<InsertRow> rows) {
+        int[] bindColumns = template.getBindColumns();
+        int index = 0;
+        for (InsertRow row : rows) {
+            Object[] values = row.getValues();
+            for (int column : bindColumns) {
+                spec = spec.bind(index++, values[column]);
+            }
         }
+        return spec;
+    }
 
-        return "'" + value.toString().replace("\\", "\\\\").replace("'", "\\'") + "'";
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, SqlCondition condition) {
+        List<Object> values = condition.getValues();
+        for (int i = 0; i < values.size(); i++) {
+            spec = spec.bind(i, values.get(i));
+        }
+        return spec;
     }
 }
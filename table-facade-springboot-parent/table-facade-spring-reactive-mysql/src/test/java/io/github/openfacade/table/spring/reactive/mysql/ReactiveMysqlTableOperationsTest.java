@@ -17,8 +17,13 @@
 package io.github.openfacade.table.spring.reactive.mysql;
 
 import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.AndCondition;
 import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.InCondition;
+import io.github.openfacade.table.api.IsNullCondition;
+import io.github.openfacade.table.reactive.api.BatchOptions;
 import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import io.github.openfacade.table.spring.core.ReactiveBaseTableOperations;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -32,6 +37,7 @@ import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -192,4 +198,199 @@ public class ReactiveMysqlTableOperationsTest {
                 .expectNextCount(0)
                 .verifyComplete();
     }
+
+    @Test
+    void testInsertAllInBatches() {
+        List<TestMysqlEntity> entitiesToInsert = new ArrayList<>();
+        for (long i = 10; i < 15; i++) {
+            TestMysqlEntity entity = new TestMysqlEntity();
+            entity.setId(i);
+            entity.setVarcharStringField("Batch " + i);
+            entitiesToInsert.add(entity);
+        }
+
+        reactiveTableOperations.insertAll(Flux.fromIterable(entitiesToInsert), new BatchOptions(2, BatchOptions.DEFAULT_MAX_BYTES))
+                .as(StepVerifier::create)
+                .expectNext(2L, 2L, 1L)
+                .verifyComplete();
+
+        reactiveTableOperations.findAll(TestMysqlEntity.class)
+                .as(StepVerifier::create)
+                .expectNextCount(5)
+                .verifyComplete();
+
+        reactiveTableOperations.deleteAll(TestMysqlEntity.class)
+                .doOnSuccess(deletedCount -> log.info("Deleted {} entities", deletedCount))
+                .block();
+    }
+
+    @Test
+    void testUpsertAll() {
+        List<TestMysqlEntity> entitiesToUpsert = new ArrayList<>();
+        for (long i = 20; i < 23; i++) {
+            TestMysqlEntity entity = new TestMysqlEntity();
+            entity.setId(i);
+            entity.setVarcharStringField("Original " + i);
+            entitiesToUpsert.add(entity);
+        }
+        reactiveTableOperations.insertAll(entitiesToUpsert).blockLast();
+
+        entitiesToUpsert.forEach(entity -> entity.setVarcharStringField("Upserted " + entity.getId()));
+        TestMysqlEntity newEntity = new TestMysqlEntity();
+        newEntity.setId(23L);
+        newEntity.setVarcharStringField("Upserted 23");
+        entitiesToUpsert.add(newEntity);
+
+        reactiveTableOperations.upsertAll(Flux.fromIterable(entitiesToUpsert), List.of("varchar_string_field"))
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        reactiveTableOperations.findAll(TestMysqlEntity.class)
+                .as(StepVerifier::create)
+                .recordWith(ArrayList::new)
+                .expectNextCount(4)
+                .consumeRecordedWith(entities -> entities.forEach(entity ->
+                        Assertions.assertEquals("Upserted " + entity.getId(), entity.getVarcharStringField())))
+                .verifyComplete();
+
+        reactiveTableOperations.deleteAll(TestMysqlEntity.class)
+                .doOnSuccess(deletedCount -> log.info("Deleted {} entities", deletedCount))
+                .block();
+    }
+
+    @Test
+    void testFindAllByInConditionInChunks() {
+        List<TestMysqlEntity> entitiesToInsert = new ArrayList<>();
+        for (long i = 30; i < 35; i++) {
+            TestMysqlEntity entity = new TestMysqlEntity();
+            entity.setId(i);
+            entity.setVarcharStringField(i % 2 == 0 ? "Even" : null);
+            entitiesToInsert.add(entity);
+        }
+        reactiveTableOperations.insertAll(entitiesToInsert).blockLast();
+
+        ReactiveBaseTableOperations baseTableOperations = (ReactiveBaseTableOperations) reactiveTableOperations;
+        baseTableOperations.setMaxInListSize(2);
+        try {
+            reactiveTableOperations.findAll(new InCondition("id", List.of(30L, 31L, 32L, 33L, 99L)), TestMysqlEntity.class)
+                    .as(StepVerifier::create)
+                    .expectNextCount(4)
+                    .verifyComplete();
+
+            AndCondition condition = new AndCondition(new InCondition("id", List.of(30L, 31L, 32L, 33L, 34L)),
+                    new IsNullCondition("varchar_string_field", true));
+            reactiveTableOperations.findAll(condition, TestMysqlEntity.class)
+                    .as(StepVerifier::create)
+                    .expectNextCount(3)
+                    .verifyComplete();
+
+            reactiveTableOperations.delete(condition, TestMysqlEntity.class)
+                    .as(StepVerifier::create)
+                    .expectNext(3L)
+                    .verifyComplete();
+        } finally {
+            baseTableOperations.setMaxInListSize(ReactiveBaseTableOperations.DEFAULT_MAX_IN_LIST_SIZE);
+        }
+
+        reactiveTableOperations.deleteAll(TestMysqlEntity.class)
+                .doOnSuccess(deletedCount -> log.info("Deleted {} entities", deletedCount))
+                .block();
+    }
+
+    @Test
+    void testScanInKeyOrder() {
+        List<TestMysqlEntity> entitiesToInsert = new ArrayList<>();
+        for (long i = 44; i >= 40; i--) {
+            TestMysqlEntity entity = new TestMysqlEntity();
+            entity.setId(i);
+            entitiesToInsert.add(entity);
+        }
+        reactiveTableOperations.insertAll(entitiesToInsert).blockLast();
+
+        reactiveTableOperations.scan(TestMysqlEntity.class, "id", 2)
+                .map(TestMysqlEntity::getId)
+                .as(StepVerifier::create)
+                .expectNext(40L, 41L, 42L, 43L, 44L)
+                .verifyComplete();
+
+        reactiveTableOperations.scan(new ComparisonCondition("id", ComparisonOperator.GTE, 42L), TestMysqlEntity.class, "id", 2)
+                .map(TestMysqlEntity::getId)
+                .as(StepVerifier::create)
+                .expectNext(42L, 43L, 44L)
+                .verifyComplete();
+
+        reactiveTableOperations.deleteAll(TestMysqlEntity.class)
+                .doOnSuccess(deletedCount -> log.info("Deleted {} entities", deletedCount))
+                .block();
+    }
+
+    @Test
+    void testFindAllParallel() {
+        List<Long> ids = new ArrayList<>();
+        List<TestMysqlEntity> entitiesToInsert = new ArrayList<>();
+        for (long i = 100; i < 200; i++) {
+            TestMysqlEntity entity = new TestMysqlEntity();
+            entity.setId(i);
+            entitiesToInsert.add(entity);
+            ids.add(i);
+        }
+        reactiveTableOperations.insertAll(entitiesToInsert).blockLast();
+
+        List<Long> ordered = reactiveTableOperations.findAllParallel(TestMysqlEntity.class, "id", 4, true)
+                .map(TestMysqlEntity::getId)
+                .collectList()
+                .block();
+        Assertions.assertEquals(ids, ordered);
+
+        List<Long> unordered = reactiveTableOperations.findAllParallel(TestMysqlEntity.class, "id", 4, false)
+                .map(TestMysqlEntity::getId)
+                .sort()
+                .collectList()
+                .block();
+        Assertions.assertEquals(ids, unordered);
+
+        reactiveTableOperations.deleteAll(TestMysqlEntity.class)
+                .doOnSuccess(deletedCount -> log.info("Deleted {} entities", deletedCount))
+                .block();
+
+        reactiveTableOperations.findAllParallel(TestMysqlEntity.class, "id", 4, false)
+                .as(StepVerifier::create)
+                .expectNextCount(0)
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindAllWithFetchSizes() {
+        List<TestMysqlEntity> entitiesToInsert = new ArrayList<>();
+        for (long i = 1000; i < 3000; i++) {
+            TestMysqlEntity entity = new TestMysqlEntity();
+            entity.setId(i);
+            entity.setVarcharStringField("Row " + i);
+            entitiesToInsert.add(entity);
+        }
+        reactiveTableOperations.insertAll(entitiesToInsert).blockLast();
+
+        Runtime runtime = Runtime.getRuntime();
+        for (int fetchSize : new int[]{0, 1, 10, 100, 1000}) {
+            System.gc();
+            long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+            long start = System.nanoTime();
+
+            Long sum = reactiveTableOperations.findAll(TestMysqlEntity.class, fetchSize)
+                    .map(TestMysqlEntity::getId)
+                    .reduce(0L, Long::sum)
+                    .block();
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+            log.info("fetch size {}: {} rows in {} ms, heap delta {} KB",
+                    fetchSize, entitiesToInsert.size(), elapsedMillis, (usedAfter - usedBefore) / 1024);
+            Assertions.assertEquals((1000L + 2999L) * 2000 / 2, sum);
+        }
+
+        reactiveTableOperations.deleteAll(TestMysqlEntity.class)
+                .doOnSuccess(deletedCount -> log.info("Deleted {} entities", deletedCount))
+                .block();
+    }
 }
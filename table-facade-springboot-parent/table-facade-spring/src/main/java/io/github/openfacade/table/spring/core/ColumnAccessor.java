@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Reads and writes one mapped column of an entity. The getter and setter are generated once per class,
+ * so calling them on the hot path costs about the same as a direct method call.
+ */
+@Getter
+@AllArgsConstructor
+public class ColumnAccessor {
+    private final String columnName;
+
+    private final Class<?> fieldType;
+
+    private final Function<Object, Object> getter;
+
+    private final BiConsumer<Object, Object> setter;
+
+    /**
+     * The reflected accessor methods, {@code null} when the column is mapped by a generated mapper.
+     */
+    private final Method getterMethod;
+
+    private final Method setterMethod;
+
+    public ColumnAccessor(String columnName, Class<?> fieldType, Function<Object, Object> getter,
+                          BiConsumer<Object, Object> setter) {
+        this(columnName, fieldType, getter, setter, null, null);
+    }
+
+    public Object get(Object entity) {
+        return getter.apply(entity);
+    }
+
+    public void set(Object entity, Object value) {
+        setter.accept(entity, value);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.api.InCondition;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Splits a condition whose IN list is longer than a limit into conditions with bounded IN lists, whose
+ * results together equal the result of the original condition. The IN may be the condition itself or a
+ * direct child of an AND; values are de-duplicated first so no row matches two chunks.
+ */
+public final class ConditionChunks {
+    private ConditionChunks() {
+    }
+
+    public static List<Condition> split(Condition condition, int maxInListSize) {
+        if (condition instanceof InCondition inCondition) {
+            if (inCondition.getValues().size() <= maxInListSize) {
+                return List.of(condition);
+            }
+            return new ArrayList<>(chunks(inCondition, maxInListSize));
+        }
+        if (condition instanceof AndCondition andCondition) {
+            int largest = -1;
+            int largestSize = maxInListSize;
+            List<Condition> children = andCondition.getConditions();
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i) instanceof InCondition inCondition && inCondition.getValues().size() > largestSize) {
+                    largest = i;
+                    largestSize = inCondition.getValues().size();
+                }
+            }
+            if (largest < 0) {
+                return List.of(condition);
+            }
+            List<Condition> result = new ArrayList<>();
+            for (InCondition chunk : chunks((InCondition) children.get(largest), maxInListSize)) {
+                List<Condition> chunkChildren = new ArrayList<>(children);
+                chunkChildren.set(largest, chunk);
+                result.add(new AndCondition(chunkChildren));
+            }
+            return result;
+        }
+        return List.of(condition);
+    }
+
+    private static List<InCondition> chunks(InCondition condition, int maxInListSize) {
+        List<Object> values = new ArrayList<>(new LinkedHashSet<>(condition.getValues()));
+        List<InCondition> chunks = new ArrayList<>((values.size() + maxInListSize - 1) / maxInListSize);
+        for (int from = 0; from < values.size(); from += maxInListSize) {
+            chunks.add(new InCondition(condition.getColumn(), values.subList(from, Math.min(from + maxInListSize, values.size()))));
+        }
+        return chunks;
+    }
+}
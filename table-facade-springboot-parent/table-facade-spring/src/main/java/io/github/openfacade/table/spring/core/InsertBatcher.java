@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import io.github.openfacade.table.reactive.api.BatchOptions;
+
+import java.util.BitSet;
+
+/**
+ * Decides where a stream of rows is cut into statements: on a change of entity type or column shape, and
+ * before the row, byte or bind parameter limit would be exceeded. Holds per-subscription state.
+ */
+class InsertBatcher {
+    private final BatchOptions options;
+
+    private final int maxParameters;
+
+    private Class<?> type;
+
+    private BitSet shape;
+
+    private int rows;
+
+    private long bytes;
+
+    InsertBatcher(BatchOptions options, int maxParameters) {
+        if (options.getMaxRows() <= 0 || options.getMaxBytes() <= 0) {
+            throw new IllegalArgumentException("Batch limits must be positive.");
+        }
+        this.options = options;
+        this.maxParameters = maxParameters;
+    }
+
+    boolean startsNewBatch(InsertRow row) {
+        boolean cut = rows > 0 && (row.getType() != type
+                || !row.getShape().equals(shape)
+                || rows >= options.getMaxRows()
+                || bytes + row.getSize() > options.getMaxBytes()
+                || (long) (rows + 1) * shape.cardinality() > maxParameters);
+        if (cut || rows == 0) {
+            type = row.getType();
+            shape = row.getShape();
+            rows = 0;
+            bytes = 0;
+        }
+        rows++;
+        bytes += row.getSize();
+        return cut;
+    }
+}
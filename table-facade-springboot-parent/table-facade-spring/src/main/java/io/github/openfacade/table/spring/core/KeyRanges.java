@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.Condition;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Splits the integral key interval {@code [min, max]} into ranges of about equal width. The first and last ranges
+ * are open-ended, so rows written outside the interval while the ranges are read are still covered exactly once.
+ * Keys that are not integral cannot be split and yield a single null condition, meaning the whole table.
+ */
+public final class KeyRanges {
+    private KeyRanges() {
+    }
+
+    public static List<Condition> split(String column, Object min, Object max, int parts) {
+        if (parts <= 0) {
+            throw new IllegalArgumentException("Parts must be positive.");
+        }
+        BigInteger low = integral(min);
+        BigInteger high = integral(max);
+        if (low == null || high == null || parts == 1 || low.compareTo(high) >= 0) {
+            return Collections.singletonList(null);
+        }
+        BigInteger width = high.subtract(low).add(BigInteger.ONE);
+        int count = width.min(BigInteger.valueOf(parts)).intValue();
+        List<Object> bounds = new ArrayList<>(count - 1);
+        for (int i = 1; i < count; i++) {
+            BigInteger bound = low.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(count)));
+            bounds.add(bound.bitLength() < Long.SIZE ? (Object) bound.longValue() : bound);
+        }
+        List<Condition> ranges = new ArrayList<>(count);
+        ranges.add(new ComparisonCondition(column, ComparisonOperator.LT, bounds.get(0)));
+        for (int i = 1; i < bounds.size(); i++) {
+            ranges.add(new AndCondition(
+                    new ComparisonCondition(column, ComparisonOperator.GTE, bounds.get(i - 1)),
+                    new ComparisonCondition(column, ComparisonOperator.LT, bounds.get(i))));
+        }
+        ranges.add(new ComparisonCondition(column, ComparisonOperator.GTE, bounds.get(bounds.size() - 1)));
+        return ranges;
+    }
+
+    private static BigInteger integral(Object value) {
+        if (value instanceof BigInteger bigInteger) {
+            return bigInteger;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        }
+        return null;
+    }
+}
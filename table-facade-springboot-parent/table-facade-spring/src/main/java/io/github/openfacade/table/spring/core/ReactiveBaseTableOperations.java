@@ -16,70 +16,339 @@
 
 package io.github.openfacade.table.spring.core;
 
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
 import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.reactive.api.BatchOptions;
 import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
-import io.github.openfacade.table.spring.util.TableMetadataUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class ReactiveBaseTableOperations implements ReactiveTableOperations {
-    protected final Map<Class<?>, TableMetadata> classMap = new ConcurrentHashMap<>();
+    public static final int DEFAULT_MAX_IN_LIST_SIZE = 1000;
+
+    protected final TableMetadataRegistry metadataRegistry = new TableMetadataRegistry();
+
+    /**
+     * @deprecated use {@link #metadataRegistry}, this is a live view of the metadata it has cached
+     */
+    @Deprecated
+    protected final Map<Class<?>, TableMetadata> classMap = metadataRegistry.asMap();
+
+    protected final SqlTemplateCache sqlTemplateCache = new SqlTemplateCache();
+
+    private int maxInListSize = DEFAULT_MAX_IN_LIST_SIZE;
+
+    private int defaultFetchSize;
+
+    private int maxParallelism = Integer.MAX_VALUE;
+
+    private final Map<String, Integer> fetchSizes = new ConcurrentHashMap<>();
+
+    public TableMetadataRegistry getMetadataRegistry() {
+        return metadataRegistry;
+    }
+
+    public SqlTemplateCache getSqlTemplateCache() {
+        return sqlTemplateCache;
+    }
+
+    public int getMaxInListSize() {
+        return maxInListSize;
+    }
+
+    /**
+     * Longer IN lists are split into several statements whose results are merged.
+     */
+    public void setMaxInListSize(int maxInListSize) {
+        if (maxInListSize <= 0) {
+            throw new IllegalArgumentException("Max IN list size must be positive.");
+        }
+        this.maxInListSize = maxInListSize;
+    }
+
+    /**
+     * Pre-registers entity classes so their metadata is not parsed on the first request.
+     */
+    public void register(Class<?>... types) {
+        metadataRegistry.register(types);
+    }
+
+    public int getDefaultFetchSize() {
+        return defaultFetchSize;
+    }
+
+    /**
+     * Rows requested per round trip when streaming with findAll, 0 keeps the driver default.
+     */
+    public void setDefaultFetchSize(int defaultFetchSize) {
+        if (defaultFetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative.");
+        }
+        this.defaultFetchSize = defaultFetchSize;
+    }
+
+    public void setFetchSize(String tableName, int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative.");
+        }
+        fetchSizes.put(tableName, fetchSize);
+    }
+
+    public int getFetchSize(String tableName) {
+        return fetchSizes.getOrDefault(tableName, defaultFetchSize);
+    }
+
+    public int getMaxParallelism() {
+        return maxParallelism;
+    }
+
+    /**
+     * Upper bound of the concurrent range queries of findAllParallel, usually the connection pool size.
+     */
+    public void setMaxParallelism(int maxParallelism) {
+        if (maxParallelism <= 0) {
+            throw new IllegalArgumentException("Max parallelism must be positive.");
+        }
+        this.maxParallelism = maxParallelism;
+    }
 
     @Override
     public <T> Mono<T> insert(T object) {
         Class<?> type = object.getClass();
-        classMap.putIfAbsent(type, TableMetadataUtil.parseClass(type));
-        TableMetadata metadata = classMap.get(type);
+        TableMetadata metadata = metadataRegistry.get(type);
         return insert(object, metadata);
     }
 
+    @Override
+    public <T> Flux<Long> insertAll(Flux<T> objects, BatchOptions options) {
+        return batches(objects, options).concatMap(this::insertBatch);
+    }
+
+    @Override
+    public <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns, BatchOptions options) {
+        if (updateColumns.isEmpty()) {
+            throw new IllegalArgumentException("Update columns must not be empty.");
+        }
+        List<String> columns = List.copyOf(updateColumns);
+        return batches(objects, options).concatMap(rows -> upsertBatch(rows, columns));
+    }
+
     @Override
     public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type) {
-        classMap.putIfAbsent(type, TableMetadataUtil.parseClass(type));
-        TableMetadata metadata = classMap.get(type);
-        return update(condition, pairs, type, metadata);
+        TableMetadata metadata = metadataRegistry.get(type);
+        List<Condition> chunks = ConditionChunks.split(condition, maxInListSize);
+        if (chunks.size() == 1) {
+            return update(condition, pairs, type, metadata);
+        }
+        return Flux.fromIterable(chunks)
+                .concatMap(chunk -> update(chunk, pairs, type, metadata))
+                .reduce(0L, Long::sum);
     }
 
     @Override
     public <T> Mono<T> find(Condition condition, Class<T> type) {
-        classMap.putIfAbsent(type, TableMetadataUtil.parseClass(type));
-        TableMetadata metadata = classMap.get(type);
+        TableMetadata metadata = metadataRegistry.get(type);
         return find(condition, type, metadata);
     }
 
     @Override
     public <T> Flux<T> findAll(Class<T> type) {
-        classMap.putIfAbsent(type, TableMetadataUtil.parseClass(type));
-        TableMetadata metadata = classMap.get(type);
-        return findAll(type, metadata);
+        TableMetadata metadata = metadataRegistry.get(type);
+        return findAll(type, metadata, getFetchSize(metadata.getTableName()));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type, int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative.");
+        }
+        TableMetadata metadata = metadataRegistry.get(type);
+        return findAll(type, metadata, fetchSize);
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Condition condition, Class<T> type) {
+        TableMetadata metadata = metadataRegistry.get(type);
+        List<Condition> chunks = ConditionChunks.split(condition, maxInListSize);
+        if (chunks.size() == 1) {
+            return findAll(condition, type, metadata);
+        }
+        return Flux.fromIterable(chunks).concatMap(chunk -> findAll(chunk, type, metadata));
+    }
+
+    @Override
+    public <T> Flux<T> scan(Condition condition, Class<T> type, String keyColumn, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        TableMetadata metadata = metadataRegistry.get(type);
+        ColumnAccessor key = metadata.getColumnMap().get(keyColumn);
+        if (key == null) {
+            throw new IllegalArgumentException("Unknown key column '" + keyColumn + "' for entity: " + type.getName());
+        }
+        // each page is only requested once the previous one has been emitted, at most two pages are held
+        return findPage(condition, type, metadata, keyColumn, pageSize)
+                .collectList()
+                .expand(page -> {
+                    if (page.size() < pageSize) {
+                        return Mono.empty();
+                    }
+                    Object last = key.get(page.get(page.size() - 1));
+                    Condition after = new ComparisonCondition(keyColumn, ComparisonOperator.GT, last);
+                    Condition next = condition == null ? after : new AndCondition(condition, after);
+                    return findPage(next, type, metadata, keyColumn, pageSize).collectList();
+                })
+                .concatMapIterable(page -> page, 1);
+    }
+
+    @Override
+    public <T> Flux<T> findAllParallel(Class<T> type, String keyColumn, int parallelism, boolean ordered) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        TableMetadata metadata = metadataRegistry.get(type);
+        if (!metadata.getColumnMap().containsKey(keyColumn)) {
+            throw new IllegalArgumentException("Unknown key column '" + keyColumn + "' for entity: " + type.getName());
+        }
+        int parts = Math.min(parallelism, maxParallelism);
+        return findKeyRange(type, metadata, keyColumn).flatMapMany(range -> {
+            if (range[0] == null) {
+                return Flux.empty();
+            }
+            List<Flux<T>> ranges = new ArrayList<>(parts);
+            for (Condition condition : KeyRanges.split(keyColumn, range[0], range[1], parts)) {
+                if (ordered) {
+                    ranges.add(findPage(condition, type, metadata, keyColumn, Integer.MAX_VALUE));
+                } else if (condition == null) {
+                    ranges.add(findAll(type, metadata, getFetchSize(metadata.getTableName())));
+                } else {
+                    ranges.add(findAll(condition, type, metadata));
+                }
+            }
+            // all ranges are subscribed at once, the sequential merge buffers later ranges until earlier ones end
+            return ordered ? Flux.mergeSequential(ranges) : Flux.merge(ranges);
+        });
     }
 
     @Override
     public <T> Mono<Long> delete(Condition condition, Class<T> type) {
-        classMap.putIfAbsent(type, TableMetadataUtil.parseClass(type));
-        TableMetadata metadata = classMap.get(type);
-        return delete(condition, type, metadata);
+        TableMetadata metadata = metadataRegistry.get(type);
+        List<Condition> chunks = ConditionChunks.split(condition, maxInListSize);
+        if (chunks.size() == 1) {
+            return delete(condition, type, metadata);
+        }
+        return Flux.fromIterable(chunks)
+                .concatMap(chunk -> delete(chunk, type, metadata))
+                .reduce(0L, Long::sum);
     }
 
     @Override
     public <T> Mono<Long> deleteAll(Class<T> type) {
-        classMap.putIfAbsent(type, TableMetadataUtil.parseClass(type));
-        TableMetadata metadata = classMap.get(type);
+        TableMetadata metadata = metadataRegistry.get(type);
         return deleteAll(type, metadata);
     }
 
     public abstract <T> Mono<T> insert(T object, TableMetadata metadata);
 
+    /**
+     * Inserts rows of the same entity type and column shape with one statement.
+     */
+    protected abstract Mono<Long> insertBatch(List<InsertRow> rows);
+
+    /**
+     * Upserts rows of the same entity type and column shape with one statement.
+     */
+    protected abstract Mono<Long> upsertBatch(List<InsertRow> rows, List<String> updateColumns);
+
     public abstract <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type, TableMetadata metadata);
 
     public abstract <T> Mono<T> find(Condition condition, Class<T> type, TableMetadata metadata);
 
-    public abstract <T> Flux<T> findAll(Class<T> type, TableMetadata metadata);
+    /**
+     * Streams the whole table, with a positive fetch size the rows are pulled from the driver in chunks of that
+     * size as downstream demand arrives.
+     */
+    public abstract <T> Flux<T> findAll(Class<T> type, TableMetadata metadata, int fetchSize);
+
+    public abstract <T> Flux<T> findAll(Condition condition, Class<T> type, TableMetadata metadata);
+
+    /**
+     * Up to {@code limit} rows matching the condition, which may be null, in ascending {@code orderColumn} order.
+     */
+    public abstract <T> Flux<T> findPage(Condition condition, Class<T> type, TableMetadata metadata,
+                                         String orderColumn, int limit);
+
+    /**
+     * Minimum and maximum of {@code keyColumn}, both null when the table is empty.
+     */
+    public abstract <T> Mono<Object[]> findKeyRange(Class<T> type, TableMetadata metadata, String keyColumn);
 
     public abstract <T> Mono<Long> delete(Condition condition, Class<T> type, TableMetadata metadata);
 
     public abstract <T> Mono<Long> deleteAll(Class<T> type, TableMetadata metadata);
+
+    /**
+     * Maximum number of placeholders the driver accepts in one statement.
+     */
+    protected int maxBindParameters() {
+        return 65535;
+    }
+
+    private <T> Flux<List<InsertRow>> batches(Flux<T> objects, BatchOptions options) {
+        return Flux.defer(() -> {
+            InsertBatcher batcher = new InsertBatcher(options, maxBindParameters());
+            return objects.map(this::insertRow)
+                    .bufferUntil(batcher::startsNewBatch, true);
+        });
+    }
+
+    private InsertRow insertRow(Object object) {
+        Class<?> type = object.getClass();
+        TableMetadata metadata = metadataRegistry.get(type);
+        Object[] values = metadata.columnValues(object);
+        BitSet shape = TableMetadata.nonNullShape(values);
+        if (shape.isEmpty()) {
+            throw new IllegalArgumentException("Cannot insert an object with all fields as null.");
+        }
+        long size = 0;
+        for (Object value : values) {
+            size += estimateSize(value);
+        }
+        return new InsertRow(type, metadata, values, shape, size);
+    }
+
+    private static long estimateSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence sequence) {
+            return sequence.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        return 8;
+    }
+
+    /**
+     * Column names of {@code [column, value, column, value...]} update pairs.
+     */
+    protected static List<String> pairColumns(Object[] pairs) {
+        if (pairs.length % 2 != 0) {
+            throw new IllegalArgumentException("Pairs must contain an even number of elements (key-value pairs).");
+        }
+        List<String> columns = new ArrayList<>(pairs.length / 2);
+        for (int i = 0; i < pairs.length; i += 2) {
+            columns.add((String) pairs[i]);
+        }
+        return columns;
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.BitSet;
+
+/**
+ * Rendered statement text together with its bind plan, the indexes of the metadata columns whose values are
+ * bound to the leading placeholders in order.
+ */
+@Getter
+@AllArgsConstructor
+public class SqlTemplate {
+    private static final int[] NO_COLUMNS = new int[0];
+
+    private final String sql;
+
+    private final int[] bindColumns;
+
+    public SqlTemplate(String sql) {
+        this(sql, NO_COLUMNS);
+    }
+
+    public SqlTemplate(String sql, BitSet shape) {
+        this(sql, shape.stream().toArray());
+    }
+}
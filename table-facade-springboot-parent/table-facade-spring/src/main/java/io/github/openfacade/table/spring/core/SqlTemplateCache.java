@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import io.github.openfacade.table.sql.common.LruCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of rendered statements keyed by entity class, operation and column shape. Once the cache is
+ * full the least recently used shapes are evicted.
+ */
+public class SqlTemplateCache {
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    public enum Operation {
+        INSERT,
+        UPSERT,
+        SELECT,
+        SCAN,
+        KEY_RANGE,
+        UPDATE,
+        DELETE,
+    }
+
+    private record Key(Class<?> type, Operation operation, Object shape) {
+    }
+
+    private final LruCache<Key, SqlTemplate> templates;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    public SqlTemplateCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public SqlTemplateCache(int maxSize) {
+        this.templates = new LruCache<>(maxSize);
+    }
+
+    /**
+     * @param shape anything that distinguishes statements of the same operation, e.g. the bound columns,
+     *              must be immutable once passed in
+     */
+    public SqlTemplate get(@NotNull Class<?> type, @NotNull Operation operation, Object shape,
+                           @NotNull Supplier<SqlTemplate> renderer) {
+        Key key = new Key(type, operation, shape);
+        SqlTemplate template = templates.get(key);
+        if (template != null) {
+            hitCount.increment();
+            return template;
+        }
+        missCount.increment();
+        template = renderer.get();
+        SqlTemplate previous = templates.putIfAbsent(key, template);
+        return previous != null ? previous : template;
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
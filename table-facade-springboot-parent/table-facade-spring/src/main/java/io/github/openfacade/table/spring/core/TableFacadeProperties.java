@@ -22,6 +22,12 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Getter
 @Setter
 @ConfigurationProperties("spring.table.facade")
@@ -34,6 +40,33 @@ public class TableFacadeProperties {
     @NestedConfigurationProperty
     private Postgre postgre;
 
+    @NestedConfigurationProperty
+    private Warmup warmup = new Warmup();
+
+    @NestedConfigurationProperty
+    private Fetch fetch = new Fetch();
+
+    @NestedConfigurationProperty
+    private ParallelScan parallelScan = new ParallelScan();
+
+    @NestedConfigurationProperty
+    private InsertCoalescing insertCoalescing = new InsertCoalescing();
+
+    @NestedConfigurationProperty
+    private FindBatching findBatching = new FindBatching();
+
+    @NestedConfigurationProperty
+    private Singleflight singleflight = new Singleflight();
+
+    @NestedConfigurationProperty
+    private Cache cache = new Cache();
+
+    @NestedConfigurationProperty
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    @NestedConfigurationProperty
+    private ReadReplicas readReplicas = new ReadReplicas();
+
     @Getter
     @Setter
     public static class OpenGauss {
@@ -45,4 +78,165 @@ public class TableFacadeProperties {
     public static class Postgre {
         private String schema;
     }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+        private boolean enabled;
+
+        /**
+         * Packages scanned for entity classes annotated with {@code @Table}.
+         */
+        private List<String> basePackages = new ArrayList<>();
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    @Getter
+    @Setter
+    public static class Fetch {
+        /**
+         * Rows requested from the driver per round trip when streaming a table, 0 keeps the driver default.
+         */
+        private int defaultSize;
+
+        /**
+         * Fetch size per table name, overriding the default.
+         */
+        private Map<String, Integer> tables = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class ParallelScan {
+        /**
+         * Most range queries findAllParallel runs at once, 0 uses the connection pool size. Never more than the
+         * pool holds.
+         */
+        private int maxParallelism;
+    }
+
+    @Getter
+    @Setter
+    public static class InsertCoalescing {
+        private boolean enabled;
+
+        /**
+         * Longest time a single-row insert waits for others to share its statement.
+         */
+        private Duration window = Duration.ofMillis(2);
+
+        /**
+         * Rows that flush a batch before its window ends.
+         */
+        private int maxRows = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class FindBatching {
+        private boolean enabled;
+
+        /**
+         * Longest time a point lookup waits for others on the same column to share its IN query.
+         */
+        private Duration window = Duration.ofMillis(1);
+
+        /**
+         * Lookups that issue the IN query before its window ends.
+         */
+        private int maxSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Singleflight {
+        /**
+         * Concurrent finds with the same entity type and condition share one query.
+         */
+        private boolean enabled;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        /**
+         * Cache bounds per table name, tables not listed are not cached.
+         */
+        private Map<String, CacheTable> tables = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class CacheTable {
+        private int maxEntries = 10000;
+
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class ConcurrencyLimit {
+        /**
+         * Limit per operation type: read, write or management. Types not listed are not limited.
+         */
+        private Map<String, OperationLimit> operations = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class OperationLimit {
+        private int initialLimit = 20;
+
+        private int minLimit = 1;
+
+        private int maxLimit = 200;
+
+        /**
+         * Operations slower than this shrink the limit, faster ones let it grow.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(100);
+
+        /**
+         * Operations waiting for a permit before further ones fail fast.
+         */
+        private int maxQueue = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class ReadReplicas {
+        /**
+         * Replicas that serve find and findAll, writes always go to the primary.
+         */
+        private List<Replica> replicas = new ArrayList<>();
+
+        /**
+         * round-robin or least-outstanding.
+         */
+        private String balancing = "round-robin";
+
+        /**
+         * Reads of an entity type go to the primary for this long after it was written, 0 disables it.
+         */
+        private Duration readYourWritesWindow = Duration.ZERO;
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+        /**
+         * R2DBC URL, a {@code r2dbc:pool:} URL configures the replica's connection pool itself.
+         */
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /**
+         * Size of the replica's connection pool, unless the URL configures one.
+         */
+        private int maxPoolSize = 10;
+    }
 }
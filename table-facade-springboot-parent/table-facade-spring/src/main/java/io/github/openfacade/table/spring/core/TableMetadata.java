@@ -16,18 +16,148 @@
 
 package io.github.openfacade.table.spring.core;
 
-import lombok.AllArgsConstructor;
+import io.github.openfacade.table.api.EntityMapping;
 import lombok.Getter;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Getter
-@AllArgsConstructor
 public class TableMetadata {
     private final String tableName;
 
-    private final LinkedHashMap<String, Method> setterMap;
+    private final Supplier<Object> instantiator;
 
-    private final LinkedHashMap<String, Method> getterMap;
+    private final LinkedHashMap<String, ColumnAccessor> columnMap;
+
+    /**
+     * Same accessors as {@link #columnMap} in column order, indexed access for the mapping hot path.
+     */
+    private final List<ColumnAccessor> columns;
+
+    public TableMetadata(String tableName, Supplier<Object> instantiator, LinkedHashMap<String, ColumnAccessor> columnMap) {
+        this.tableName = tableName;
+        this.instantiator = instantiator;
+        this.columnMap = columnMap;
+        this.columns = List.copyOf(columnMap.values());
+    }
+
+    /**
+     * @deprecated use {@link #TableMetadata(String, Supplier, LinkedHashMap)}, the accessors built here call the
+     * methods reflectively and instances are created through the no-arg constructor of the most specific class
+     * declaring them
+     */
+    @Deprecated
+    public TableMetadata(String tableName, LinkedHashMap<String, Method> setterMap,
+                         LinkedHashMap<String, Method> getterMap) {
+        this(tableName, instantiator(getterMap, setterMap), accessors(getterMap, setterMap));
+    }
+
+    /**
+     * @deprecated use {@link #getColumnMap()}, this only works for entities mapped by reflection
+     */
+    @Deprecated
+    public LinkedHashMap<String, Method> getSetterMap() {
+        return methodMap(ColumnAccessor::getSetterMethod);
+    }
+
+    /**
+     * @deprecated use {@link #getColumnMap()}, this only works for entities mapped by reflection
+     */
+    @Deprecated
+    public LinkedHashMap<String, Method> getGetterMap() {
+        return methodMap(ColumnAccessor::getGetterMethod);
+    }
+
+    private LinkedHashMap<String, Method> methodMap(Function<ColumnAccessor, Method> method) {
+        LinkedHashMap<String, Method> methods = new LinkedHashMap<>();
+        for (ColumnAccessor column : columns) {
+            Method accessor = method.apply(column);
+            if (accessor == null) {
+                throw new UnsupportedOperationException("Table " + tableName
+                        + " is mapped by a generated mapper and has no accessor methods");
+            }
+            methods.put(column.getColumnName(), accessor);
+        }
+        return methods;
+    }
+
+    private static LinkedHashMap<String, ColumnAccessor> accessors(LinkedHashMap<String, Method> getterMap,
+                                                                  LinkedHashMap<String, Method> setterMap) {
+        LinkedHashMap<String, ColumnAccessor> columnMap = new LinkedHashMap<>();
+        getterMap.forEach((columnName, getter) -> {
+            Method setter = setterMap.get(columnName);
+            columnMap.put(columnName, new ColumnAccessor(columnName, getter.getReturnType(),
+                    entity -> invoke(getter, entity), (entity, value) -> invoke(setter, entity, value),
+                    getter, setter));
+        });
+        return columnMap;
+    }
+
+    private static Supplier<Object> instantiator(LinkedHashMap<String, Method> getterMap,
+                                                 LinkedHashMap<String, Method> setterMap) {
+        List<Method> methods = new ArrayList<>(getterMap.values());
+        methods.addAll(setterMap.values());
+        Class<?> type = null;
+        for (Method method : methods) {
+            if (type == null || type.isAssignableFrom(method.getDeclaringClass())) {
+                type = method.getDeclaringClass();
+            }
+        }
+        if (type == null) {
+            return () -> {
+                throw new IllegalStateException("No accessor methods to find the entity class from");
+            };
+        }
+        Class<?> entityType = type;
+        Constructor<?> constructor;
+        try {
+            constructor = entityType.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return () -> {
+                throw new IllegalStateException("No accessible no-arg constructor for " + entityType.getName(), e);
+            };
+        }
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Error creating instance of: " + entityType.getName(), e);
+            }
+        };
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Error invoking " + method.getName(), e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Method " + method.getName() + " is not accessible", e);
+        }
+    }
+
+    public Object[] columnValues(Object entity) {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = columns.get(i).get(entity);
+        }
+        return values;
+    }
+
+    public List<String> columnNames(BitSet shape) {
+        return EntityMapping.columnNames(new ArrayList<>(columnMap.keySet()), shape);
+    }
+
+    public static BitSet nonNullShape(Object[] values) {
+        return EntityMapping.nonNullShape(values);
+    }
 }
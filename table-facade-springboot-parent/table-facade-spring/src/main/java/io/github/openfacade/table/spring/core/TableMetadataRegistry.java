@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import io.github.openfacade.table.spring.util.TableMetadataUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches {@link TableMetadata} per entity class, each class is parsed exactly once.
+ */
+public class TableMetadataRegistry {
+    private final Map<Class<?>, TableMetadata> metadataMap = new ConcurrentHashMap<>();
+
+    private final LongAdder requestCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    public TableMetadata get(@NotNull Class<?> type) {
+        requestCount.increment();
+        TableMetadata metadata = metadataMap.get(type);
+        if (metadata != null) {
+            return metadata;
+        }
+        return metadataMap.computeIfAbsent(type, this::parse);
+    }
+
+    /**
+     * Parses and caches the given classes ahead of the first call, so mapping errors surface early.
+     */
+    public void register(@NotNull Class<?>... types) {
+        for (Class<?> type : types) {
+            metadataMap.computeIfAbsent(type, TableMetadataUtil::parseClass);
+        }
+    }
+
+    public boolean isRegistered(@NotNull Class<?> type) {
+        return metadataMap.containsKey(type);
+    }
+
+    public int size() {
+        return metadataMap.size();
+    }
+
+    public long getHitCount() {
+        return requestCount.sum() - missCount.sum();
+    }
+
+    /**
+     * Number of lookups that had to parse the class, pre-registration is not counted as a lookup.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * The cached metadata, backing the deprecated {@code classMap} of {@link ReactiveBaseTableOperations}.
+     */
+    Map<Class<?>, TableMetadata> asMap() {
+        return metadataMap;
+    }
+
+    private TableMetadata parse(Class<?> type) {
+        missCount.increment();
+        return TableMetadataUtil.parseClass(type);
+    }
+}
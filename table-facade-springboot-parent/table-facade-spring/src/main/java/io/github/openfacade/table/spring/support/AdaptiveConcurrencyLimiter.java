@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the operations in flight with a limit adjusted by AIMD: an operation whose first result arrives later than
+ * the latency threshold multiplies the limit by {@value #BACKOFF}, a fast one while at least half of the limit is
+ * in use raises it by one. Operations over the limit wait in a bounded FIFO queue, beyond which they fail with
+ * {@link ConcurrencyLimitExceededException}.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long thresholdNanos;
+
+    private final int maxQueue;
+
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+
+    private final LongAdder rejections = new LongAdder();
+
+    private double limit;
+
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitSpec spec) {
+        if (spec.getMinLimit() <= 0 || spec.getMinLimit() > spec.getInitialLimit()
+                || spec.getInitialLimit() > spec.getMaxLimit()) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max.");
+        }
+        if (spec.getLatencyThreshold().isNegative() || spec.getLatencyThreshold().isZero()) {
+            throw new IllegalArgumentException("Latency threshold must be positive.");
+        }
+        if (spec.getMaxQueue() < 0) {
+            throw new IllegalArgumentException("Max queue must not be negative.");
+        }
+        this.minLimit = spec.getMinLimit();
+        this.maxLimit = spec.getMaxLimit();
+        this.thresholdNanos = spec.getLatencyThreshold().toNanos();
+        this.maxQueue = spec.getMaxQueue();
+        this.limit = spec.getInitialLimit();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    public long getRejectedCount() {
+        return rejections.sum();
+    }
+
+    /**
+     * Subscribes to {@code source} once a permit is available and holds it until the source terminates or is
+     * cancelled.
+     */
+    public <T> Mono<T> limit(Mono<T> source) {
+        return acquire().flatMap(permit -> source
+                .doOnEach(signal -> permit.observe())
+                .doFinally(signal -> release(permit)));
+    }
+
+    /**
+     * Like {@link #limit(Mono)}, the latency is taken to the first element so long streams do not shrink the
+     * limit.
+     */
+    public <T> Flux<T> limit(Flux<T> source) {
+        return acquire().flatMapMany(permit -> source
+                .doOnEach(signal -> permit.observe())
+                .doFinally(signal -> release(permit)));
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Permit permit = null;
+            boolean rejected = false;
+            synchronized (this) {
+                if (inFlight < (int) limit) {
+                    inFlight++;
+                    permit = new Permit();
+                } else if (waiters.size() < maxQueue) {
+                    Waiter waiter = new Waiter(sink);
+                    waiters.add(waiter);
+                    sink.onCancel(() -> cancel(waiter));
+                } else {
+                    rejected = true;
+                }
+            }
+            if (permit != null) {
+                sink.success(permit);
+            } else if (rejected) {
+                rejections.increment();
+                sink.error(new ConcurrencyLimitExceededException("Concurrency limit of " + getLimit()
+                        + " reached with " + maxQueue + " operations queued."));
+            }
+        });
+    }
+
+    private void cancel(Waiter waiter) {
+        Permit granted;
+        synchronized (this) {
+            if (waiters.remove(waiter)) {
+                return;
+            }
+            granted = waiter.permit;
+        }
+        // the permit was granted but the waiter was cancelled before it could be delivered
+        if (granted != null) {
+            release(granted);
+        }
+    }
+
+    private void release(Permit permit) {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            if (permit.latencyNanos >= 0) {
+                if (permit.latencyNanos > thresholdNanos) {
+                    limit = Math.max(minLimit, limit * BACKOFF);
+                } else if ((inFlight + 1) * 2 >= limit) {
+                    limit = Math.min(maxLimit, limit + 1);
+                }
+            }
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                Waiter waiter = waiters.poll();
+                waiter.permit = new Permit();
+                inFlight++;
+                granted.add(waiter);
+            }
+        }
+        for (Waiter waiter : granted) {
+            waiter.sink.success(waiter.permit);
+        }
+    }
+
+    private static final class Permit {
+        private final long start = System.nanoTime();
+
+        private volatile long latencyNanos = -1;
+
+        private void observe() {
+            if (latencyNanos < 0) {
+                latencyNanos = System.nanoTime() - start;
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.api.InCondition;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import io.github.openfacade.table.spring.core.ColumnAccessor;
+import io.github.openfacade.table.spring.core.TableMetadataRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Point lookups {@code find(column = value)} of an integral or UUID key on the same entity type and column are
+ * collected for up to {@code window}, or until {@code maxSize} are waiting, and answered by one
+ * {@code findAll(column IN (...))}. Each caller gets the first row whose column equals its value, or an empty
+ * result. Other conditions go straight to the delegate.
+ */
+public class BatchLoadingReactiveTableOperations extends ForwardingReactiveTableOperations {
+    private final Duration window;
+
+    private final int maxSize;
+
+    private final Scheduler scheduler;
+
+    private static final Set<Class<?>> INTEGRAL_TYPES = Set.of(Long.class, long.class, Integer.class, int.class,
+            Short.class, short.class, Byte.class, byte.class);
+
+    private final TableMetadataRegistry metadataRegistry;
+
+    private final Map<List<Object>, WindowedQueue<Lookup>> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder lookups = new LongAdder();
+
+    public BatchLoadingReactiveTableOperations(ReactiveTableOperations delegate, Duration window, int maxSize) {
+        this(delegate, window, maxSize, Schedulers.parallel());
+    }
+
+    public BatchLoadingReactiveTableOperations(ReactiveTableOperations delegate, Duration window, int maxSize,
+                                               Scheduler scheduler) {
+        super(delegate);
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive.");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive.");
+        }
+        this.window = window;
+        this.maxSize = maxSize;
+        this.scheduler = scheduler;
+        this.metadataRegistry = metadataRegistry(delegate);
+    }
+
+    /**
+     * IN queries issued.
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * Point lookups answered by those queries.
+     */
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    @Override
+    public <T> Mono<T> find(Condition condition, Class<T> type) {
+        if (!(condition instanceof ComparisonCondition comparison)
+                || comparison.getOperator() != ComparisonOperator.EQ || comparison.getValue() == null) {
+            return delegate.find(condition, type);
+        }
+        ColumnAccessor accessor = metadataRegistry.get(type).getColumnMap().get(comparison.getColumn());
+        if (accessor == null || !batchable(accessor.getFieldType(), comparison.getValue())) {
+            return delegate.find(condition, type);
+        }
+        return Mono.create(sink -> queues
+                .computeIfAbsent(Arrays.asList(type, comparison.getColumn()),
+                        key -> new WindowedQueue<>(window, maxSize, scheduler,
+                                batch -> load(type, comparison.getColumn(), accessor, batch)))
+                .add(new Lookup(comparison.getValue(), sink)));
+    }
+
+    private void load(Class<?> type, String column, ColumnAccessor accessor, List<Lookup> batch) {
+        Map<Object, Object> values = new LinkedHashMap<>();
+        for (Lookup lookup : batch) {
+            values.putIfAbsent(key(lookup.value), lookup.value);
+        }
+        batches.increment();
+        lookups.add(batch.size());
+
+        delegate.findAll(new InCondition(column, values.values()), type)
+                .collect(HashMap<Object, Object>::new, (rows, row) -> rows.putIfAbsent(key(accessor.get(row)), row))
+                .subscribe(rows -> {
+                    for (Lookup lookup : batch) {
+                        lookup.sink.success(rows.get(key(lookup.value)));
+                    }
+                }, error -> {
+                    for (Lookup lookup : batch) {
+                        lookup.sink.error(error);
+                    }
+                });
+    }
+
+    /**
+     * Rows are matched back to lookups with {@code equals}, which agrees with SQL equality only for integral and
+     * UUID keys. Strings may compare by collation, decimals by value regardless of scale and binary by content,
+     * so those lookups are not batched.
+     */
+    private static boolean batchable(Class<?> fieldType, Object value) {
+        if (fieldType == UUID.class) {
+            return value instanceof UUID;
+        }
+        return INTEGRAL_TYPES.contains(fieldType) && INTEGRAL_TYPES.contains(value.getClass());
+    }
+
+    /**
+     * Integral numbers compare by value, so an {@code Integer} id finds the row of a {@code Long} column.
+     */
+    private static Object key(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        return value;
+    }
+
+    private static final class Lookup {
+        private final Object value;
+
+        private final MonoSink<Object> sink;
+
+        @SuppressWarnings("unchecked")
+        private Lookup(Object value, MonoSink<?> sink) {
+            this.value = value;
+            this.sink = (MonoSink<Object>) sink;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.api.anno.Table;
+import io.github.openfacade.table.reactive.api.BatchOptions;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for {@link #find} and {@link #findAll(Condition, Class)} of the tables that have an
+ * {@link EntityCacheSpec}, other tables and streaming reads go straight to the delegate. Empty results are cached
+ * too. Any write through this instance clears the cache of its entity type when it completes, and a load that
+ * raced with a write is not stored. Cached entities are shared between callers and must not be modified.
+ */
+public class CachingReactiveTableOperations extends ForwardingReactiveTableOperations {
+    private final Map<String, EntityCacheSpec> specs;
+
+    private final Map<Class<?>, Optional<SegmentedLruCache<Object, Object>>> caches = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * @param specs cache bounds by table name
+     */
+    public CachingReactiveTableOperations(ReactiveTableOperations delegate, Map<String, EntityCacheSpec> specs) {
+        super(delegate);
+        this.specs = Map.copyOf(specs);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    /**
+     * Total time spent loading missed entries from the delegate.
+     */
+    public long getLoadNanos() {
+        return loadNanos.sum();
+    }
+
+    @Override
+    public <T> Mono<T> find(Condition condition, Class<T> type) {
+        SegmentedLruCache<Object, Object> cache = cache(type);
+        if (cache == null) {
+            return delegate.find(condition, type);
+        }
+        Object key = Arrays.asList("find", ConditionKey.normalize(condition));
+        return this.<Optional<T>>read(cache, key, () -> delegate.find(condition, type)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()))
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Condition condition, Class<T> type) {
+        SegmentedLruCache<Object, Object> cache = cache(type);
+        if (cache == null) {
+            return delegate.findAll(condition, type);
+        }
+        Object key = Arrays.asList("findAll", ConditionKey.normalize(condition));
+        return this.<List<T>>read(cache, key, () -> delegate.findAll(condition, type).collectList())
+                .flatMapIterable(rows -> rows);
+    }
+
+    @Override
+    public <T> Mono<T> insert(T object) {
+        return delegate.insert(object).doFinally(signal -> invalidate(object.getClass()));
+    }
+
+    @Override
+    public <T> Flux<Long> insertAll(Flux<T> objects, BatchOptions options) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        return delegate.insertAll(objects.doOnNext(object -> types.add(object.getClass())), options)
+                .doFinally(signal -> types.forEach(this::invalidate));
+    }
+
+    @Override
+    public <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns, BatchOptions options) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        return delegate.upsertAll(objects.doOnNext(object -> types.add(object.getClass())), updateColumns, options)
+                .doFinally(signal -> types.forEach(this::invalidate));
+    }
+
+    @Override
+    public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type) {
+        return delegate.update(condition, pairs, type).doFinally(signal -> invalidate(type));
+    }
+
+    @Override
+    public <T> Mono<Long> delete(Condition condition, Class<T> type) {
+        return delegate.delete(condition, type).doFinally(signal -> invalidate(type));
+    }
+
+    @Override
+    public <T> Mono<Long> deleteAll(Class<T> type) {
+        return delegate.deleteAll(type).doFinally(signal -> invalidate(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> Mono<V> read(SegmentedLruCache<Object, Object> cache, Object key,
+                             Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Object cached = cache.get(key);
+            if (cached != null) {
+                hits.increment();
+                return Mono.just((V) cached);
+            }
+            misses.increment();
+            long generation = cache.generation();
+            long start = System.nanoTime();
+            return loader.get().doOnNext(value -> {
+                loads.increment();
+                loadNanos.add(System.nanoTime() - start);
+                cache.put(key, value, generation);
+            });
+        });
+    }
+
+    private SegmentedLruCache<Object, Object> cache(Class<?> type) {
+        return caches.computeIfAbsent(type, this::createCache).orElse(null);
+    }
+
+    private Optional<SegmentedLruCache<Object, Object>> createCache(Class<?> type) {
+        Table table = type.getAnnotation(Table.class);
+        EntityCacheSpec spec = table == null ? null : specs.get(table.name());
+        if (spec == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SegmentedLruCache<>(spec.getMaxEntries(), spec.getTtl().toNanos(), System::nanoTime,
+                evictions));
+    }
+
+    private void invalidate(Class<?> type) {
+        Optional<SegmentedLruCache<Object, Object>> cache = caches.get(type);
+        if (cache != null) {
+            cache.ifPresent(SegmentedLruCache::clear);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.reactive.api.BatchOptions;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Group commit for single-row inserts: concurrent {@link #insert} calls for the same entity type are held for up
+ * to {@code window}, or until {@code maxRows} are waiting, and written with one {@code insertAll}. Each caller's
+ * {@code Mono} completes when the batch holding its row has been written, and fails with the batch's error when
+ * it fails, so one bad row fails the other rows of its batch too.
+ * <p>
+ * {@code insertAll} may split a batch into several statements. With a {@link TransactionalOperator} the batch is
+ * written in one transaction, so a failed batch leaves none of its rows behind; without one, the statements
+ * before the failing one stay committed although their callers see the error.
+ */
+public class CoalescingReactiveTableOperations extends ForwardingReactiveTableOperations {
+    private final Duration window;
+
+    private final int maxRows;
+
+    private final TransactionalOperator transactionalOperator;
+
+    private final Scheduler scheduler;
+
+    private final Map<Class<?>, WindowedQueue<Pending>> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder flushes = new LongAdder();
+
+    private final LongAdder flushedRows = new LongAdder();
+
+    private final LongAccumulator maxFlushRows = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public CoalescingReactiveTableOperations(ReactiveTableOperations delegate, Duration window, int maxRows) {
+        this(delegate, window, maxRows, null);
+    }
+
+    public CoalescingReactiveTableOperations(ReactiveTableOperations delegate, Duration window, int maxRows,
+                                             TransactionalOperator transactionalOperator) {
+        this(delegate, window, maxRows, transactionalOperator, Schedulers.parallel());
+    }
+
+    public CoalescingReactiveTableOperations(ReactiveTableOperations delegate, Duration window, int maxRows,
+                                             TransactionalOperator transactionalOperator, Scheduler scheduler) {
+        super(delegate);
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive.");
+        }
+        if (maxRows <= 0) {
+            throw new IllegalArgumentException("Max rows must be positive.");
+        }
+        this.window = window;
+        this.maxRows = maxRows;
+        this.transactionalOperator = transactionalOperator;
+        this.scheduler = scheduler;
+    }
+
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+
+    public long getFlushedRows() {
+        return flushedRows.sum();
+    }
+
+    public long getMaxFlushRows() {
+        return maxFlushRows.get();
+    }
+
+    /**
+     * Total time rows spent waiting for their batch to be flushed.
+     */
+    public long getQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    public long getMaxQueueWaitNanos() {
+        return maxQueueWaitNanos.get();
+    }
+
+    @Override
+    public <T> Mono<T> insert(T object) {
+        return Mono.create(sink -> {
+            WindowedQueue<Pending> queue = queues.computeIfAbsent(object.getClass(),
+                    type -> new WindowedQueue<>(window, maxRows, scheduler, this::flush));
+            queue.add(new Pending(object, sink, System.nanoTime()));
+        });
+    }
+
+    private void flush(List<Pending> batch) {
+        long now = System.nanoTime();
+        List<Object> objects = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            long waited = now - pending.enqueuedNanos;
+            queueWaitNanos.add(waited);
+            maxQueueWaitNanos.accumulate(waited);
+            objects.add(pending.object);
+        }
+        flushes.increment();
+        flushedRows.add(batch.size());
+        maxFlushRows.accumulate(batch.size());
+
+        Mono<Void> write = delegate.insertAll(Flux.fromIterable(objects),
+                new BatchOptions(maxRows, BatchOptions.DEFAULT_MAX_BYTES)).then();
+        if (transactionalOperator != null) {
+            write = transactionalOperator.transactional(write);
+        }
+        write.subscribe(null, error -> {
+            for (Pending pending : batch) {
+                pending.sink.error(error);
+            }
+        }, () -> {
+            for (Pending pending : batch) {
+                pending.sink.success(pending.object);
+            }
+        });
+    }
+
+    private static final class Pending {
+        private final Object object;
+
+        private final MonoSink<Object> sink;
+
+        private final long enqueuedNanos;
+
+        @SuppressWarnings("unchecked")
+        private Pending(Object object, MonoSink<?> sink, long enqueuedNanos) {
+            this.object = object;
+            this.sink = (MonoSink<Object>) sink;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
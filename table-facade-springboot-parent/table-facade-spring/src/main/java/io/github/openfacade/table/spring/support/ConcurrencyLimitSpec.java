@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Bounds and tuning of one adaptive concurrency limit.
+ */
+@Getter
+@AllArgsConstructor
+public class ConcurrencyLimitSpec {
+    private final int initialLimit;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    /**
+     * Operations slower than this shrink the limit, faster ones let it grow.
+     */
+    private final Duration latencyThreshold;
+
+    /**
+     * Operations waiting for a permit before further ones fail fast, 0 fails as soon as the limit is reached.
+     */
+    private final int maxQueue;
+}
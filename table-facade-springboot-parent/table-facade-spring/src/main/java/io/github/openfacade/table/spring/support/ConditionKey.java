@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.api.InCondition;
+import io.github.openfacade.table.api.OrCondition;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lookup keys for reads, equal for conditions that only differ in the order of AND/OR operands or IN values,
+ * in how AND/OR are nested, or in duplicated operands.
+ */
+final class ConditionKey {
+    private ConditionKey() {
+    }
+
+    static Object of(Class<?> type, Condition condition) {
+        return Arrays.asList(type, normalize(condition));
+    }
+
+    static Object normalize(Condition condition) {
+        if (condition instanceof AndCondition and) {
+            return junction("AND", and.getConditions(), AndCondition.class);
+        }
+        if (condition instanceof OrCondition or) {
+            return junction("OR", or.getConditions(), OrCondition.class);
+        }
+        if (condition instanceof InCondition in) {
+            return Arrays.asList("IN", in.getColumn(), new HashSet<>(in.getValues()));
+        }
+        return condition;
+    }
+
+    private static Object junction(String operator, List<Condition> conditions, Class<? extends Condition> kind) {
+        Set<Object> operands = new HashSet<>();
+        flatten(conditions, kind, operands);
+        if (operands.size() == 1) {
+            return operands.iterator().next();
+        }
+        return Arrays.asList(operator, operands);
+    }
+
+    private static void flatten(List<Condition> conditions, Class<? extends Condition> kind, Set<Object> operands) {
+        for (Condition condition : conditions) {
+            if (kind.isInstance(condition)) {
+                flatten(condition instanceof AndCondition and ? and.getConditions() : ((OrCondition) condition).getConditions(),
+                        kind, operands);
+            } else {
+                operands.add(normalize(condition));
+            }
+        }
+    }
+}
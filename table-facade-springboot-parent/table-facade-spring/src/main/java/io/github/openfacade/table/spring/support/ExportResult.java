@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one export, {@code bytes} counts the encoded text before compression.
+ */
+@Getter
+@AllArgsConstructor
+public class ExportResult {
+    private final long rows;
+
+    private final long bytes;
+
+    private final long fileBytes;
+
+    private final Duration elapsed;
+
+    public double getRowsPerSecond() {
+        return rows / seconds();
+    }
+
+    public double getMegabytesPerSecond() {
+        return bytes / (1024.0 * 1024.0) / seconds();
+    }
+
+    private double seconds() {
+        return Math.max(elapsed.toNanos(), 1) / 1e9;
+    }
+}
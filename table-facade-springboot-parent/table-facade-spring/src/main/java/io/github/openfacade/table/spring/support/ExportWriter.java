@@ -0,0 +1,242 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.spring.core.ColumnAccessor;
+import io.github.openfacade.table.spring.core.TableMetadata;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes the rows of one export into a line buffer, then as UTF-8 into the byte buffer, which is written to the
+ * file, or through gzip, only when it is full.
+ */
+final class ExportWriter implements Closeable {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+
+    private final ExportFormat format;
+
+    private final List<ColumnAccessor> columns;
+
+    private final String[] jsonKeys;
+
+    private final ByteBuffer buffer;
+
+    private final FileChannel file;
+
+    private final WritableByteChannel out;
+
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private final StringBuilder line = new StringBuilder(256);
+
+    private final long start = System.nanoTime();
+
+    private long rows;
+
+    private long bytes;
+
+    ExportWriter(Path path, ExportFormat format, boolean gzip, TableMetadata metadata, ByteBuffer buffer)
+            throws IOException {
+        this.path = path;
+        this.format = format;
+        this.columns = metadata.getColumns();
+        this.jsonKeys = new String[columns.size()];
+        for (int i = 0; i < jsonKeys.length; i++) {
+            jsonString(columns.get(i).getColumnName());
+            jsonKeys[i] = line.append(':').toString();
+            line.setLength(0);
+        }
+        this.buffer = buffer;
+        buffer.clear();
+        this.file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        try {
+            this.out = gzip
+                    ? Channels.newChannel(new GZIPOutputStream(Channels.newOutputStream(file), GZIP_BUFFER_SIZE))
+                    : file;
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+        if (format == ExportFormat.CSV) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                csv(columns.get(i).getColumnName());
+            }
+            line.append("\r\n");
+            encodeLine();
+        }
+    }
+
+    void write(Object entity) {
+        if (format == ExportFormat.CSV) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                csv(columns.get(i).get(entity));
+            }
+            line.append("\r\n");
+        } else {
+            line.append('{');
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                line.append(jsonKeys[i]);
+                json(columns.get(i).get(entity));
+            }
+            line.append("}\n");
+        }
+        rows++;
+        encodeLine();
+    }
+
+    /**
+     * Writes what is buffered and completes the file, the writer must still be closed.
+     */
+    ExportResult finish() throws IOException {
+        drain();
+        out.close();
+        return new ExportResult(rows, bytes, Files.size(path), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.close();
+        } finally {
+            file.close();
+        }
+    }
+
+    private void encodeLine() {
+        try {
+            CharBuffer chars = CharBuffer.wrap(line);
+            while (encoder.encode(chars, buffer, true).isOverflow()) {
+                drain();
+            }
+            encoder.reset();
+            line.setLength(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        bytes += buffer.remaining();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void csv(Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = text(value);
+        boolean quoted = false;
+        for (int i = 0; i < text.length() && !quoted; i++) {
+            char c = text.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quoted) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private void json(Object value) {
+        if (value == null) {
+            line.append("null");
+        } else if (value instanceof Boolean
+                || value instanceof Number number && Double.isFinite(number.doubleValue())) {
+            line.append(value);
+        } else {
+            jsonString(text(value));
+        }
+    }
+
+    private void jsonString(String text) {
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c == '\n') {
+                line.append("\\n");
+            } else if (c == '\r') {
+                line.append("\\r");
+            } else if (c == '\t') {
+                line.append("\\t");
+            } else if (c < 0x20) {
+                line.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    private static String text(Object value) {
+        if (value instanceof byte[] binary) {
+            return Base64.getEncoder().encodeToString(binary);
+        }
+        return value.toString();
+    }
+}
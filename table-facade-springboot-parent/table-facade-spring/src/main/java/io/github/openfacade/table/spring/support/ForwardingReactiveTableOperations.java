@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.reactive.api.BatchOptions;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import io.github.openfacade.table.spring.core.ReactiveBaseTableOperations;
+import io.github.openfacade.table.spring.core.TableMetadataRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Base for decorators, forwarding every operation to the delegate so a subclass only overrides what it changes.
+ */
+public abstract class ForwardingReactiveTableOperations implements ReactiveTableOperations {
+    protected final ReactiveTableOperations delegate;
+
+    protected ForwardingReactiveTableOperations(ReactiveTableOperations delegate) {
+        this.delegate = delegate;
+    }
+
+    public ReactiveTableOperations getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * The operations below all forwarding decorators.
+     */
+    public static ReactiveTableOperations unwrap(ReactiveTableOperations operations) {
+        while (operations instanceof ForwardingReactiveTableOperations forwarding) {
+            operations = forwarding.getDelegate();
+        }
+        return operations;
+    }
+
+    /**
+     * The metadata registry of the wrapped operations, so decorators share its parsed entities. Operations that
+     * do not expose one get a registry of their own.
+     */
+    protected static TableMetadataRegistry metadataRegistry(ReactiveTableOperations operations) {
+        if (unwrap(operations) instanceof ReactiveBaseTableOperations base) {
+            return base.getMetadataRegistry();
+        }
+        return new TableMetadataRegistry();
+    }
+
+    @Override
+    public <T> Mono<T> insert(T object) {
+        return delegate.insert(object);
+    }
+
+    @Override
+    public <T> Flux<Long> insertAll(Flux<T> objects, BatchOptions options) {
+        return delegate.insertAll(objects, options);
+    }
+
+    @Override
+    public <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns, BatchOptions options) {
+        return delegate.upsertAll(objects, updateColumns, options);
+    }
+
+    @Override
+    public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type) {
+        return delegate.update(condition, pairs, type);
+    }
+
+    @Override
+    public <T> Mono<T> find(Condition condition, Class<T> type) {
+        return delegate.find(condition, type);
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type) {
+        return delegate.findAll(type);
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type, int fetchSize) {
+        return delegate.findAll(type, fetchSize);
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Condition condition, Class<T> type) {
+        return delegate.findAll(condition, type);
+    }
+
+    @Override
+    public <T> Flux<T> scan(Condition condition, Class<T> type, String keyColumn, int pageSize) {
+        return delegate.scan(condition, type, keyColumn, pageSize);
+    }
+
+    @Override
+    public <T> Flux<T> findAllParallel(Class<T> type, String keyColumn, int parallelism, boolean ordered) {
+        return delegate.findAllParallel(type, keyColumn, parallelism, ordered);
+    }
+
+    @Override
+    public <T> Mono<Long> delete(Condition condition, Class<T> type) {
+        return delegate.delete(condition, type);
+    }
+
+    @Override
+    public <T> Mono<Long> deleteAll(Class<T> type) {
+        return delegate.deleteAll(type);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.reactive.api.ReactiveTableManagement;
+import org.jetbrains.annotations.NotNull;
+import reactor.core.publisher.Mono;
+
+/**
+ * Runs table management statements through one {@link AdaptiveConcurrencyLimiter}.
+ */
+public class LimitingReactiveTableManagement implements ReactiveTableManagement {
+    private final ReactiveTableManagement delegate;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public LimitingReactiveTableManagement(ReactiveTableManagement delegate, ConcurrencyLimitSpec spec) {
+        this.delegate = delegate;
+        this.limiter = new AdaptiveConcurrencyLimiter(spec);
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    public Mono<Boolean> existsTable(@NotNull String tableName) {
+        return limiter.limit(delegate.existsTable(tableName));
+    }
+
+    @Override
+    public Mono<Void> dropTable(@NotNull String tableName) {
+        return limiter.limit(delegate.dropTable(tableName));
+    }
+}
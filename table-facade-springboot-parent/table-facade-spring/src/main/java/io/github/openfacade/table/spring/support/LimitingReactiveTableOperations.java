@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.reactive.api.BatchOptions;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs reads and writes through an {@link AdaptiveConcurrencyLimiter} per {@link OperationType}, types without
+ * a spec are not limited. A streaming read or batch write holds one permit until it terminates.
+ */
+public class LimitingReactiveTableOperations extends ForwardingReactiveTableOperations {
+    private final Map<OperationType, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(OperationType.class);
+
+    public LimitingReactiveTableOperations(ReactiveTableOperations delegate,
+                                           Map<OperationType, ConcurrencyLimitSpec> specs) {
+        super(delegate);
+        specs.forEach((type, spec) -> limiters.put(type, new AdaptiveConcurrencyLimiter(spec)));
+    }
+
+    /**
+     * The limiter of the operation type, null when it is not limited.
+     */
+    public AdaptiveConcurrencyLimiter getLimiter(OperationType type) {
+        return limiters.get(type);
+    }
+
+    @Override
+    public <T> Mono<T> insert(T object) {
+        return limit(OperationType.WRITE, delegate.insert(object));
+    }
+
+    @Override
+    public <T> Flux<Long> insertAll(Flux<T> objects, BatchOptions options) {
+        return limit(OperationType.WRITE, delegate.insertAll(objects, options));
+    }
+
+    @Override
+    public <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns, BatchOptions options) {
+        return limit(OperationType.WRITE, delegate.upsertAll(objects, updateColumns, options));
+    }
+
+    @Override
+    public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type) {
+        return limit(OperationType.WRITE, delegate.update(condition, pairs, type));
+    }
+
+    @Override
+    public <T> Mono<T> find(Condition condition, Class<T> type) {
+        return limit(OperationType.READ, delegate.find(condition, type));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type) {
+        return limit(OperationType.READ, delegate.findAll(type));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type, int fetchSize) {
+        return limit(OperationType.READ, delegate.findAll(type, fetchSize));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Condition condition, Class<T> type) {
+        return limit(OperationType.READ, delegate.findAll(condition, type));
+    }
+
+    @Override
+    public <T> Flux<T> scan(Condition condition, Class<T> type, String keyColumn, int pageSize) {
+        return limit(OperationType.READ, delegate.scan(condition, type, keyColumn, pageSize));
+    }
+
+    @Override
+    public <T> Flux<T> findAllParallel(Class<T> type, String keyColumn, int parallelism, boolean ordered) {
+        return limit(OperationType.READ, delegate.findAllParallel(type, keyColumn, parallelism, ordered));
+    }
+
+    @Override
+    public <T> Mono<Long> delete(Condition condition, Class<T> type) {
+        return limit(OperationType.WRITE, delegate.delete(condition, type));
+    }
+
+    @Override
+    public <T> Mono<Long> deleteAll(Class<T> type) {
+        return limit(OperationType.WRITE, delegate.deleteAll(type));
+    }
+
+    private <T> Mono<T> limit(OperationType type, Mono<T> source) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(type);
+        return limiter == null ? source : limiter.limit(source);
+    }
+
+    private <T> Flux<T> limit(OperationType type, Flux<T> source) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(type);
+        return limiter == null ? source : limiter.limit(source);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.reactive.api.BatchOptions;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Sends reads to replicas and writes to the primary, which is the delegate. Within the read-your-writes window
+ * after a write through this instance completes, reads of the same entity type go to the primary too, so callers
+ * see their own writes despite replication lag. A zero window disables it.
+ */
+public class ReadWriteSplittingReactiveTableOperations extends ForwardingReactiveTableOperations {
+    private final List<ReactiveTableOperations> replicas;
+
+    private final AtomicInteger[] outstanding;
+
+    private final ReplicaBalancing balancing;
+
+    private final long windowNanos;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Map<Class<?>, Long> writes = new ConcurrentHashMap<>();
+
+    private final LongAdder replicaReads = new LongAdder();
+
+    private final LongAdder primaryReads = new LongAdder();
+
+    public ReadWriteSplittingReactiveTableOperations(ReactiveTableOperations primary,
+                                                     List<ReactiveTableOperations> replicas,
+                                                     ReplicaBalancing balancing, Duration readYourWritesWindow) {
+        super(primary);
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Replicas must not be empty.");
+        }
+        if (readYourWritesWindow.isNegative()) {
+            throw new IllegalArgumentException("Read-your-writes window must not be negative.");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.outstanding = new AtomicInteger[replicas.size()];
+        for (int i = 0; i < outstanding.length; i++) {
+            outstanding[i] = new AtomicInteger();
+        }
+        this.balancing = balancing;
+        this.windowNanos = readYourWritesWindow.toNanos();
+    }
+
+    public List<ReactiveTableOperations> getReplicas() {
+        return replicas;
+    }
+
+    public long getReplicaReadCount() {
+        return replicaReads.sum();
+    }
+
+    /**
+     * Reads sent to the primary because their entity type was written within the window.
+     */
+    public long getPrimaryReadCount() {
+        return primaryReads.sum();
+    }
+
+    @Override
+    public <T> Mono<T> insert(T object) {
+        return delegate.insert(object).doFinally(signal -> written(object.getClass()));
+    }
+
+    @Override
+    public <T> Flux<Long> insertAll(Flux<T> objects, BatchOptions options) {
+        return Flux.defer(() -> {
+            Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+            return delegate.insertAll(objects.doOnNext(object -> types.add(object.getClass())), options)
+                    .doFinally(signal -> types.forEach(this::written));
+        });
+    }
+
+    @Override
+    public <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns, BatchOptions options) {
+        return Flux.defer(() -> {
+            Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+            return delegate.upsertAll(objects.doOnNext(object -> types.add(object.getClass())), updateColumns, options)
+                    .doFinally(signal -> types.forEach(this::written));
+        });
+    }
+
+    @Override
+    public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type) {
+        return delegate.update(condition, pairs, type).doFinally(signal -> written(type));
+    }
+
+    @Override
+    public <T> Mono<T> find(Condition condition, Class<T> type) {
+        return Mono.defer(() -> {
+            int replica = route(type);
+            if (replica < 0) {
+                return delegate.find(condition, type);
+            }
+            return replicas.get(replica).find(condition, type)
+                    .doFinally(signal -> outstanding[replica].decrementAndGet());
+        });
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type) {
+        return read(type, operations -> operations.findAll(type));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type, int fetchSize) {
+        return read(type, operations -> operations.findAll(type, fetchSize));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Condition condition, Class<T> type) {
+        return read(type, operations -> operations.findAll(condition, type));
+    }
+
+    @Override
+    public <T> Flux<T> scan(Condition condition, Class<T> type, String keyColumn, int pageSize) {
+        return read(type, operations -> operations.scan(condition, type, keyColumn, pageSize));
+    }
+
+    @Override
+    public <T> Flux<T> findAllParallel(Class<T> type, String keyColumn, int parallelism, boolean ordered) {
+        return read(type, operations -> operations.findAllParallel(type, keyColumn, parallelism, ordered));
+    }
+
+    @Override
+    public <T> Mono<Long> delete(Condition condition, Class<T> type) {
+        return delegate.delete(condition, type).doFinally(signal -> written(type));
+    }
+
+    @Override
+    public <T> Mono<Long> deleteAll(Class<T> type) {
+        return delegate.deleteAll(type).doFinally(signal -> written(type));
+    }
+
+    private <T> Flux<T> read(Class<T> type, Function<ReactiveTableOperations, Flux<T>> query) {
+        return Flux.defer(() -> {
+            int replica = route(type);
+            if (replica < 0) {
+                return query.apply(delegate);
+            }
+            return query.apply(replicas.get(replica))
+                    .doFinally(signal -> outstanding[replica].decrementAndGet());
+        });
+    }
+
+    /**
+     * Index of the replica to read from with its outstanding count taken, -1 for the primary.
+     */
+    private int route(Class<?> type) {
+        Long written = writes.get(type);
+        if (written != null) {
+            if (System.nanoTime() - written < windowNanos) {
+                primaryReads.increment();
+                return -1;
+            }
+            writes.remove(type, written);
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        int replica = start;
+        if (balancing == ReplicaBalancing.LEAST_OUTSTANDING) {
+            for (int i = 1; i < replicas.size(); i++) {
+                int candidate = (start + i) % replicas.size();
+                if (outstanding[candidate].get() < outstanding[replica].get()) {
+                    replica = candidate;
+                }
+            }
+        }
+        outstanding[replica].incrementAndGet();
+        replicaReads.increment();
+        return replica;
+    }
+
+    private void written(Class<?> type) {
+        if (windowNanos > 0) {
+            writes.put(type, System.nanoTime());
+        }
+    }
+}
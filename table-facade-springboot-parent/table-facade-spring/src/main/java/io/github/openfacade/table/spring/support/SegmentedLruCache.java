@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Segmented LRU with per-entry expiry. New entries start in a probation segment and move to the protected
+ * segment, 80% of the capacity, when read again; protected entries pushed out drop back to probation, and
+ * evictions take the least recently used probation entry first. One-off lookups therefore cannot flush the
+ * entries that are read repeatedly.
+ */
+class SegmentedLruCache<K, V> {
+    private final int maxEntries;
+
+    private final int protectedCapacity;
+
+    private final long ttlNanos;
+
+    private final LongSupplier clock;
+
+    private final LongAdder evictions;
+
+    private final LinkedHashMap<K, Entry<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LinkedHashMap<K, Entry<V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long generation;
+
+    SegmentedLruCache(int maxEntries, long ttlNanos, LongSupplier clock, LongAdder evictions) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive.");
+        }
+        this.maxEntries = maxEntries;
+        this.protectedCapacity = Math.max(1, maxEntries * 4 / 5);
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+        this.evictions = evictions;
+    }
+
+    /**
+     * Increases with every {@link #clear()}, a value loaded under an older generation may be stale.
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    synchronized int size() {
+        return probation.size() + protectedSegment.size();
+    }
+
+    synchronized V get(K key) {
+        long now = clock.getAsLong();
+        Entry<V> entry = protectedSegment.get(key);
+        if (entry != null) {
+            if (entry.expired(now)) {
+                protectedSegment.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+        entry = probation.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expired(now)) {
+            return null;
+        }
+        protectedSegment.put(key, entry);
+        if (protectedSegment.size() > protectedCapacity) {
+            Iterator<Map.Entry<K, Entry<V>>> eldest = protectedSegment.entrySet().iterator();
+            Map.Entry<K, Entry<V>> demoted = eldest.next();
+            eldest.remove();
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+        return entry.value;
+    }
+
+    /**
+     * Stores the value unless the cache was cleared since {@code loadedGeneration}.
+     */
+    synchronized void put(K key, V value, long loadedGeneration) {
+        if (loadedGeneration != generation) {
+            return;
+        }
+        Entry<V> entry = new Entry<>(value, clock.getAsLong() + ttlNanos);
+        if (protectedSegment.containsKey(key)) {
+            protectedSegment.put(key, entry);
+            return;
+        }
+        probation.put(key, entry);
+        while (probation.size() + protectedSegment.size() > maxEntries) {
+            LinkedHashMap<K, Entry<V>> victims = probation.isEmpty() ? protectedSegment : probation;
+            Iterator<K> eldest = victims.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    synchronized void clear() {
+        generation++;
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+
+        private final long expiresAtNanos;
+
+        private Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean expired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.reactive.api.BatchOptions;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent {@link #find} calls for the same entity type and condition share one query: the first caller starts
+ * it and callers arriving while it runs get its result. A write through this instance drops the in-flight queries
+ * of its entity type when it completes, so a read issued after a write never joins a query started before it.
+ */
+public class SingleflightReactiveTableOperations extends ForwardingReactiveTableOperations {
+    private final Map<Class<?>, Map<Object, Mono<?>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder queries = new LongAdder();
+
+    private final LongAdder joined = new LongAdder();
+
+    public SingleflightReactiveTableOperations(ReactiveTableOperations delegate) {
+        super(delegate);
+    }
+
+    /**
+     * Finds that started a query.
+     */
+    public long getQueryCount() {
+        return queries.sum();
+    }
+
+    /**
+     * Finds served by a query another caller started.
+     */
+    public long getJoinedCount() {
+        return joined.sum();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> find(Condition condition, Class<T> type) {
+        return Mono.defer(() -> {
+            Object key = ConditionKey.of(type, condition);
+            Map<Object, Mono<?>> flights = inFlight.computeIfAbsent(type, k -> new ConcurrentHashMap<>());
+            Mono<?> flight = flights.get(key);
+            if (flight != null) {
+                joined.increment();
+                return (Mono<T>) flight;
+            }
+            AtomicReference<Mono<T>> created = new AtomicReference<>();
+            created.set(delegate.find(condition, type)
+                    .doFinally(signal -> flights.remove(key, created.get()))
+                    .cache());
+            flight = flights.putIfAbsent(key, created.get());
+            if (flight != null) {
+                joined.increment();
+                return (Mono<T>) flight;
+            }
+            queries.increment();
+            return created.get();
+        });
+    }
+
+    @Override
+    public <T> Mono<T> insert(T object) {
+        return delegate.insert(object).doFinally(signal -> invalidate(object.getClass()));
+    }
+
+    @Override
+    public <T> Flux<Long> insertAll(Flux<T> objects, BatchOptions options) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        return delegate.insertAll(objects.doOnNext(object -> types.add(object.getClass())), options)
+                .doFinally(signal -> types.forEach(this::invalidate));
+    }
+
+    @Override
+    public <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns, BatchOptions options) {
+        Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+        return delegate.upsertAll(objects.doOnNext(object -> types.add(object.getClass())), updateColumns, options)
+                .doFinally(signal -> types.forEach(this::invalidate));
+    }
+
+    @Override
+    public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type) {
+        return delegate.update(condition, pairs, type).doFinally(signal -> invalidate(type));
+    }
+
+    @Override
+    public <T> Mono<Long> delete(Condition condition, Class<T> type) {
+        return delegate.delete(condition, type).doFinally(signal -> invalidate(type));
+    }
+
+    @Override
+    public <T> Mono<Long> deleteAll(Class<T> type) {
+        return delegate.deleteAll(type).doFinally(signal -> invalidate(type));
+    }
+
+    private void invalidate(Class<?> type) {
+        Map<Object, Mono<?>> flights = inFlight.get(type);
+        if (flights != null) {
+            flights.clear();
+        }
+    }
+}
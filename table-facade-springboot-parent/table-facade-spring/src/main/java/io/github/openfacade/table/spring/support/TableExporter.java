@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import io.github.openfacade.table.spring.core.TableMetadata;
+import io.github.openfacade.table.spring.core.TableMetadataRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams {@code findAll} rows into a file as CSV or NDJSON, optionally gzip compressed. Rows are requested in
+ * small batches and written on a blocking-capable scheduler, so the memory held is the line and byte buffers
+ * regardless of the table size. Direct byte buffers are pooled across exports.
+ */
+public class TableExporter {
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final int PREFETCH = 256;
+
+    private final ReactiveTableOperations operations;
+
+    private final Scheduler scheduler;
+
+    private final int bufferSize;
+
+    private final TableMetadataRegistry metadataRegistry;
+
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final LongAdder bytes = new LongAdder();
+
+    private final LongAdder nanos = new LongAdder();
+
+    public TableExporter(ReactiveTableOperations operations) {
+        this(operations, Schedulers.boundedElastic(), DEFAULT_BUFFER_SIZE);
+    }
+
+    public TableExporter(ReactiveTableOperations operations, Scheduler scheduler, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive.");
+        }
+        this.operations = operations;
+        this.metadataRegistry = ForwardingReactiveTableOperations.metadataRegistry(operations);
+        this.scheduler = scheduler;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Rows written by completed exports.
+     */
+    public long getExportedRows() {
+        return rows.sum();
+    }
+
+    /**
+     * Encoded bytes, before compression, written by completed exports.
+     */
+    public long getExportedBytes() {
+        return bytes.sum();
+    }
+
+    public long getExportNanos() {
+        return nanos.sum();
+    }
+
+    public <T> Mono<ExportResult> export(Class<T> type, Path path, ExportFormat format, boolean gzip) {
+        return export(operations.findAll(type), type, path, format, gzip);
+    }
+
+    /**
+     * Writes {@code rows} of {@code type} to {@code path}, replacing the file. The result reports the rate of the
+     * export.
+     */
+    public <T> Mono<ExportResult> export(Flux<T> rows, Class<T> type, Path path, ExportFormat format, boolean gzip) {
+        TableMetadata metadata = metadataRegistry.get(type);
+        return Mono.using(() -> new ExportWriter(path, format, gzip, metadata, acquire()),
+                        writer -> rows.publishOn(scheduler, PREFETCH)
+                                .doOnNext(writer::write)
+                                .then(Mono.fromCallable(writer::finish)),
+                        this::release)
+                .subscribeOn(scheduler)
+                .doOnNext(result -> {
+                    this.rows.add(result.getRows());
+                    bytes.add(result.getBytes());
+                    nanos.add(result.getElapsed().toNanos());
+                });
+    }
+
+    private ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    private void release(ExportWriter writer) {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffers.offer(writer.getBuffer());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Collects elements into batches handed to the flusher when {@code maxSize} elements are waiting or when the
+ * window, armed by the first element of a batch, ends. The flusher runs outside the queue's lock.
+ */
+final class WindowedQueue<E> {
+    private final Duration window;
+
+    private final int maxSize;
+
+    private final Scheduler scheduler;
+
+    private final Consumer<List<E>> flusher;
+
+    private List<E> pending = new ArrayList<>();
+
+    WindowedQueue(Duration window, int maxSize, Scheduler scheduler, Consumer<List<E>> flusher) {
+        this.window = window;
+        this.maxSize = maxSize;
+        this.scheduler = scheduler;
+        this.flusher = flusher;
+    }
+
+    void add(E element) {
+        List<E> full = null;
+        synchronized (this) {
+            pending.add(element);
+            if (pending.size() >= maxSize) {
+                full = take();
+            } else if (pending.size() == 1) {
+                List<E> armed = pending;
+                scheduler.schedule(() -> expire(armed), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            flusher.accept(full);
+        }
+    }
+
+    private void expire(List<E> armed) {
+        List<E> batch;
+        synchronized (this) {
+            // the batch this timer was armed for may already have been flushed when it filled up
+            if (pending != armed) {
+                return;
+            }
+            batch = take();
+        }
+        flusher.accept(batch);
+    }
+
+    private List<E> take() {
+        List<E> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+}
@@ -16,90 +16,176 @@
 
 package io.github.openfacade.table.spring.util;
 
-import io.github.openfacade.table.api.anno.Column;
-import io.github.openfacade.table.api.anno.Table;
+import io.github.openfacade.table.api.EntityMapper;
+import io.github.openfacade.table.api.EntityMappers;
+import io.github.openfacade.table.api.EntityMapping;
+import io.github.openfacade.table.spring.core.ColumnAccessor;
 import io.github.openfacade.table.spring.core.TableMetadata;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
-import java.util.Locale;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class TableMetadataUtil {
     public static TableMetadata parseClass(@NotNull Class<?> type) {
+        EntityMapper<?> mapper = EntityMappers.find(type);
+        if (mapper != null) {
+            return fromMapper(mapper);
+        }
+
         String tableName = getTableName(type);
         if (tableName == null) {
             throw new IllegalArgumentException("Class " + type.getName() + " is missing @Table annotation");
         }
 
-        LinkedHashMap<String, Method> setterMap = new LinkedHashMap<>();
-        LinkedHashMap<String, Method> getterMap = new LinkedHashMap<>();
+        MethodHandles.Lookup lookup = lookupFor(type);
+        LinkedHashMap<String, ColumnAccessor> columnMap = new LinkedHashMap<>();
 
         for (Field field : type.getDeclaredFields()) {
             String columnName = getColumnName(field);
             if (columnName != null) {
-                getterMap.put(columnName, getGetMethod(type, field));
-                setterMap.put(columnName, getSetMethod(type, field));
+                Method getMethod = getGetMethod(type, field);
+                Method setMethod = getSetMethod(type, field);
+                columnMap.put(columnName, new ColumnAccessor(columnName, field.getType(),
+                        createGetter(lookup, getMethod), createSetter(lookup, setMethod), getMethod, setMethod));
             }
         }
 
-        return new TableMetadata(tableName, setterMap, getterMap);
+        return new TableMetadata(tableName, createInstantiator(lookup, type), columnMap);
     }
 
-    public static String getTableName(Class<?> type) {
-        if (type.isAnnotationPresent(Table.class)) {
-            return type.getAnnotation(Table.class).name();
-        } else if (type.isAnnotationPresent(org.springframework.data.relational.core.mapping.Table.class)) {
-            org.springframework.data.relational.core.mapping.Table annotation = type.getAnnotation(org.springframework.data.relational.core.mapping.Table.class);
-            if (!annotation.value().isEmpty()) {
-                return annotation.value();
-            }
-            return annotation.name();
+    /**
+     * Builds metadata on top of a compile-time generated mapper, no reflection is involved on this path.
+     */
+    @SuppressWarnings("unchecked")
+    public static TableMetadata fromMapper(@NotNull EntityMapper<?> entityMapper) {
+        EntityMapper<Object> mapper = (EntityMapper<Object>) entityMapper;
+        LinkedHashMap<String, ColumnAccessor> columnMap = new LinkedHashMap<>();
+        List<String> columnNames = mapper.columnNames();
+        for (int i = 0; i < columnNames.size(); i++) {
+            int index = i;
+            String columnName = columnNames.get(i);
+            columnMap.put(columnName, new ColumnAccessor(columnName, mapper.columnType(i),
+                    entity -> mapper.get(entity, index),
+                    (entity, value) -> mapper.set(entity, index, value)));
         }
-        return null;
+        return new TableMetadata(mapper.tableName(), mapper::newInstance, columnMap);
+    }
+
+    public static String getTableName(Class<?> type) {
+        return EntityMapping.tableName(type);
     }
 
     public static String getColumnName(Field field) {
-        if (field.isAnnotationPresent(Column.class)) {
-            return field.getAnnotation(Column.class).name();
-        } else if (field.isAnnotationPresent(org.springframework.data.relational.core.mapping.Column.class)) {
-            return field.getAnnotation(org.springframework.data.relational.core.mapping.Column.class).value();
-        }
-        return null;
+        return EntityMapping.columnName(field);
     }
 
     public static <T> Method getSetMethod(Class<T> tClass, Field classField) {
+        return EntityMapping.setter(tClass, classField);
+    }
+
+    public static <T> Method getGetMethod(Class<T> tClass, Field classField) {
+        return EntityMapping.getter(tClass, classField);
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> type) {
         try {
-            return tClass.getMethod("set" + capitalizeFirstChar(classField.getName()), classField.getType());
-        } catch (NoSuchMethodException e) {
-            throw new IllegalStateException("No set method", e);
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.lookup();
         }
     }
 
-    public static <T> Method getGetMethod(Class<T> tClass, Field classField) {
-        String fieldName = classField.getName();
-        String capFieldName = capitalizeFirstChar(fieldName);
+    /**
+     * Spins a {@link Function} bound directly to the getter, falling back to a method handle when the
+     * lookup is not allowed to define lambdas for the entity class.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(MethodHandles.Lookup lookup, Method method) {
+        MethodHandle handle = unreflect(lookup, method);
         try {
-            if (isTypeBoolean(classField.getType().getName())) {
-                return tClass.getMethod("is" + capFieldName);
-            }
-            return tClass.getMethod("get" + capFieldName);
-        } catch (NoSuchMethodException e) {
-            throw new IllegalStateException(String.format("No get method for field %s", fieldName), e);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle, handle.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return entity -> {
+                try {
+                    return generic.invokeExact(entity);
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Error invoking getter " + method.getName(), t);
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createSetter(MethodHandles.Lookup lookup, Method method) {
+        MethodHandle handle = unreflect(lookup, method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle, handle.type().wrap().changeReturnType(void.class));
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return (entity, value) -> {
+                try {
+                    generic.invokeExact(entity, value);
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Error invoking setter " + method.getName(), t);
+                }
+            };
         }
     }
 
-    private static boolean isTypeBoolean(@NotNull String typeName) {
-        return "java.lang.Boolean".equals(typeName) || "boolean".equals(typeName);
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> createInstantiator(MethodHandles.Lookup lookup, Class<?> type) {
+        MethodHandle handle;
+        try {
+            handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return () -> {
+                throw new IllegalStateException("No accessible no-arg constructor for " + type.getName(), e);
+            };
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    handle, handle.type());
+            return (Supplier<Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+            return () -> {
+                try {
+                    return generic.invokeExact();
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Error creating instance of: " + type.getName(), t);
+                }
+            };
+        }
     }
 
-    private static String capitalizeFirstChar(@Nullable String str) {
-        if (str == null || str.isEmpty()) {
-            return str;
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Method " + method.getName() + " is not accessible", e);
         }
-        return str.substring(0, 1).toUpperCase(Locale.US) + str.substring(1);
     }
 
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.api.InCondition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class ConditionChunksTest {
+    @Test
+    public void testShortInListIsKept() {
+        Condition condition = new InCondition("id", List.of(1, 2));
+        Assertions.assertEquals(List.of(condition), ConditionChunks.split(condition, 2));
+    }
+
+    @Test
+    public void testInListIsSplitAndDeduplicated() {
+        List<Condition> chunks = ConditionChunks.split(new InCondition("id", List.of(1, 2, 2, 3, 4, 5)), 2);
+        Assertions.assertEquals(List.of(
+                new InCondition("id", List.of(1, 2)),
+                new InCondition("id", List.of(3, 4)),
+                new InCondition("id", List.of(5))), chunks);
+    }
+
+    @Test
+    public void testInListInsideAndIsSplit() {
+        ComparisonCondition tenant = new ComparisonCondition("tenant", ComparisonOperator.EQ, 1);
+        List<Condition> chunks = ConditionChunks.split(new AndCondition(tenant, new InCondition("id", List.of(1, 2, 3))), 2);
+        Assertions.assertEquals(List.of(
+                new AndCondition(tenant, new InCondition("id", List.of(1, 2))),
+                new AndCondition(tenant, new InCondition("id", List.of(3)))), chunks);
+    }
+}
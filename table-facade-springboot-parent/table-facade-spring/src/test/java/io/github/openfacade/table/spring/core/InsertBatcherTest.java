@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import io.github.openfacade.table.reactive.api.BatchOptions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+class InsertBatcherTest {
+    private static InsertRow row(Class<?> type, long size, int... columns) {
+        BitSet shape = new BitSet();
+        for (int column : columns) {
+            shape.set(column);
+        }
+        return new InsertRow(type, null, new Object[0], shape, size);
+    }
+
+    @Test
+    public void testCutByRowsAndBytes() {
+        InsertBatcher batcher = new InsertBatcher(new BatchOptions(2, 100), 65535);
+        Assertions.assertFalse(batcher.startsNewBatch(row(String.class, 10, 0, 1)));
+        Assertions.assertFalse(batcher.startsNewBatch(row(String.class, 10, 0, 1)));
+        Assertions.assertTrue(batcher.startsNewBatch(row(String.class, 10, 0, 1)));
+        Assertions.assertTrue(batcher.startsNewBatch(row(String.class, 95, 0, 1)));
+    }
+
+    @Test
+    public void testCutByShapeAndType() {
+        InsertBatcher batcher = new InsertBatcher(new BatchOptions(), 65535);
+        Assertions.assertFalse(batcher.startsNewBatch(row(String.class, 1, 0, 1)));
+        Assertions.assertTrue(batcher.startsNewBatch(row(String.class, 1, 0)));
+        Assertions.assertTrue(batcher.startsNewBatch(row(Integer.class, 1, 0)));
+        Assertions.assertFalse(batcher.startsNewBatch(row(Integer.class, 1, 0)));
+    }
+
+    @Test
+    public void testCutByBindParameters() {
+        InsertBatcher batcher = new InsertBatcher(new BatchOptions(), 5);
+        Assertions.assertFalse(batcher.startsNewBatch(row(String.class, 1, 0, 1)));
+        Assertions.assertFalse(batcher.startsNewBatch(row(String.class, 1, 0, 1)));
+        Assertions.assertTrue(batcher.startsNewBatch(row(String.class, 1, 0, 1)));
+    }
+}
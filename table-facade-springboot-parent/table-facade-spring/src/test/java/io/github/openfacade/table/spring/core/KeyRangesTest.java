@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.Condition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+class KeyRangesTest {
+    @Test
+    public void testIntervalIsSplitIntoOpenEndedRanges() {
+        Assertions.assertEquals(List.of(
+                new ComparisonCondition("id", ComparisonOperator.LT, 26L),
+                new AndCondition(new ComparisonCondition("id", ComparisonOperator.GTE, 26L),
+                        new ComparisonCondition("id", ComparisonOperator.LT, 51L)),
+                new AndCondition(new ComparisonCondition("id", ComparisonOperator.GTE, 51L),
+                        new ComparisonCondition("id", ComparisonOperator.LT, 76L)),
+                new ComparisonCondition("id", ComparisonOperator.GTE, 76L)), KeyRanges.split("id", 1L, 100, 4));
+    }
+
+    @Test
+    public void testNarrowIntervalGetsFewerRanges() {
+        Assertions.assertEquals(List.of(
+                new ComparisonCondition("id", ComparisonOperator.LT, 2L),
+                new ComparisonCondition("id", ComparisonOperator.GTE, 2L)), KeyRanges.split("id", 1, 2, 8));
+    }
+
+    @Test
+    public void testWholeLongIntervalDoesNotOverflow() {
+        Assertions.assertEquals(List.of(
+                new ComparisonCondition("id", ComparisonOperator.LT, 0L),
+                new ComparisonCondition("id", ComparisonOperator.GTE, 0L)),
+                KeyRanges.split("id", Long.MIN_VALUE, Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    public void testKeyThatCannotBeSplitIsReadWhole() {
+        List<Condition> whole = Collections.singletonList(null);
+        Assertions.assertEquals(whole, KeyRanges.split("name", "a", "z", 4));
+        Assertions.assertEquals(whole, KeyRanges.split("id", 5L, 5L, 4));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SqlTemplateCacheTest {
+    @Test
+    public void testRenderOncePerShape() {
+        SqlTemplateCache cache = new SqlTemplateCache();
+        AtomicInteger renders = new AtomicInteger();
+        BitSet shape = new BitSet();
+        shape.set(0);
+        shape.set(2);
+
+        SqlTemplate first = cache.get(String.class, SqlTemplateCache.Operation.INSERT, shape, () -> {
+            renders.incrementAndGet();
+            return new SqlTemplate("INSERT", shape);
+        });
+        SqlTemplate second = cache.get(String.class, SqlTemplateCache.Operation.INSERT, (BitSet) shape.clone(), () -> {
+            renders.incrementAndGet();
+            return new SqlTemplate("INSERT", shape);
+        });
+
+        Assertions.assertSame(first, second);
+        Assertions.assertArrayEquals(new int[]{0, 2}, first.getBindColumns());
+        Assertions.assertEquals(1, renders.get());
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        SqlTemplateCache cache = new SqlTemplateCache(1);
+        cache.get(String.class, SqlTemplateCache.Operation.SELECT, null, () -> new SqlTemplate("SELECT 1"));
+        cache.get(Integer.class, SqlTemplateCache.Operation.SELECT, null, () -> new SqlTemplate("SELECT 2"));
+        SqlTemplate template = cache.get(Integer.class, SqlTemplateCache.Operation.SELECT, null, () -> new SqlTemplate("SELECT 3"));
+
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals("SELECT 2", template.getSql());
+        Assertions.assertEquals(1, cache.getHitCount());
+    }
+}
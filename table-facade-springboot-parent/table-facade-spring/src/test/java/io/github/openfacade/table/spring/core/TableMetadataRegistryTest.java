@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.core;
+
+import io.github.openfacade.table.api.anno.Column;
+import io.github.openfacade.table.api.anno.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TableMetadataRegistryTest {
+    @Getter
+    @Setter
+    @Table(name = "registry_entity")
+    public static class RegistryEntity {
+        @Column(name = "id")
+        private Long id;
+    }
+
+    @Test
+    public void testParseOnceAndCountHits() {
+        TableMetadataRegistry registry = new TableMetadataRegistry();
+        TableMetadata first = registry.get(RegistryEntity.class);
+        TableMetadata second = registry.get(RegistryEntity.class);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, registry.getMissCount());
+        Assertions.assertEquals(1, registry.getHitCount());
+    }
+
+    @Test
+    public void testRegisterAheadOfFirstCall() {
+        TableMetadataRegistry registry = new TableMetadataRegistry();
+        registry.register(RegistryEntity.class);
+        Assertions.assertTrue(registry.isRegistered(RegistryEntity.class));
+
+        registry.get(RegistryEntity.class);
+        Assertions.assertEquals(0, registry.getMissCount());
+        Assertions.assertEquals(1, registry.getHitCount());
+    }
+
+    @Test
+    public void testMapViewSharesTheCache() {
+        TableMetadataRegistry registry = new TableMetadataRegistry();
+        registry.register(RegistryEntity.class);
+        Assertions.assertSame(registry.get(RegistryEntity.class), registry.asMap().get(RegistryEntity.class));
+
+        registry.asMap().remove(RegistryEntity.class);
+        Assertions.assertFalse(registry.isRegistered(RegistryEntity.class));
+    }
+
+    @Test
+    public void testRegisterInvalidClassFails() {
+        TableMetadataRegistry registry = new TableMetadataRegistry();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.register(String.class));
+        Assertions.assertFalse(registry.isRegistered(String.class));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+class AdaptiveConcurrencyLimiterTest {
+    @Test
+    public void testExcessIsShedWhenQueueIsFull() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitSpec(1, 1, 1, Duration.ofSeconds(1), 0));
+        Disposable held = limiter.limit(Mono.never()).subscribe();
+
+        RuntimeException error = Assertions.assertThrows(RuntimeException.class,
+                () -> limiter.limit(Mono.just(1)).block());
+        Assertions.assertInstanceOf(ConcurrencyLimitExceededException.class, Exceptions.unwrap(error));
+        Assertions.assertEquals(1, limiter.getRejectedCount());
+
+        held.dispose();
+        Assertions.assertEquals(0, limiter.getInFlight());
+        Assertions.assertEquals(1, limiter.limit(Mono.just(1)).block());
+    }
+
+    @Test
+    public void testQueuedOperationRunsWhenPermitIsReleased() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitSpec(1, 1, 1, Duration.ofSeconds(1), 1));
+        Disposable held = limiter.limit(Mono.never()).subscribe();
+        Mono<Integer> queued = limiter.limit(Mono.just(1)).cache();
+        queued.subscribe();
+        Assertions.assertEquals(1, limiter.getQueued());
+
+        held.dispose();
+        Assertions.assertEquals(1, queued.block(Duration.ofSeconds(5)));
+        Assertions.assertEquals(0, limiter.getQueued());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testLimitFollowsLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitSpec(10, 2, 20, Duration.ofMillis(1), 0));
+        for (int i = 0; i < 10; i++) {
+            limiter.limit(Mono.delay(Duration.ofMillis(5))).block();
+        }
+        Assertions.assertEquals(3, limiter.getLimit());
+
+        AdaptiveConcurrencyLimiter growing = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitSpec(2, 1, 20, Duration.ofSeconds(1), 0));
+        growing.limit(Mono.just(1)).block();
+        Assertions.assertEquals(3, growing.getLimit());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.InCondition;
+import io.github.openfacade.table.api.anno.Column;
+import io.github.openfacade.table.api.anno.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+class BatchLoadingReactiveTableOperationsTest {
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Table(name = "loaded_entity")
+    public static class LoadedEntity {
+        @Column(name = "id")
+        private Long id;
+
+        @Column(name = "name")
+        private String name;
+    }
+
+    @Test
+    public void testPointLookupsShareInQuery() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        stub.allFinder = condition -> ((InCondition) condition).getValues().stream()
+                .map(value -> ((Number) value).longValue())
+                .filter(id -> id % 2 == 1)
+                .map(id -> new LoadedEntity(id, null))
+                .collect(Collectors.toList());
+        BatchLoadingReactiveTableOperations operations =
+                new BatchLoadingReactiveTableOperations(stub, Duration.ofMillis(20), 100);
+
+        List<Optional<Long>> found = Flux.range(0, 10)
+                .flatMapSequential(i -> operations.find(new ComparisonCondition("id", ComparisonOperator.EQ, i % 5),
+                                LoadedEntity.class)
+                        .map(entity -> Optional.of(entity.getId()))
+                        .defaultIfEmpty(Optional.empty()), 10)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(List.of(Optional.empty(), Optional.of(1L), Optional.empty(), Optional.of(3L),
+                Optional.empty()), found.subList(0, 5));
+        Assertions.assertEquals(found.subList(0, 5), found.subList(5, 10));
+        Assertions.assertEquals(1, stub.findAllConditions.size());
+        Assertions.assertEquals(5, ((InCondition) stub.findAllConditions.get(0)).getValues().size());
+        Assertions.assertEquals(1, operations.getBatchCount());
+        Assertions.assertEquals(10, operations.getLookupCount());
+    }
+
+    @Test
+    public void testOtherConditionsPassThrough() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        BatchLoadingReactiveTableOperations operations =
+                new BatchLoadingReactiveTableOperations(stub, Duration.ofMillis(20), 100);
+
+        operations.find(new ComparisonCondition("id", ComparisonOperator.GT, 1L), LoadedEntity.class).block();
+        Assertions.assertEquals(1, stub.findCalls.get());
+        // strings may match by collation, which equals cannot reproduce
+        operations.find(new ComparisonCondition("name", ComparisonOperator.EQ, "Name"), LoadedEntity.class).block();
+        Assertions.assertEquals(2, stub.findCalls.get());
+        Assertions.assertEquals(0, operations.getBatchCount());
+    }
+}
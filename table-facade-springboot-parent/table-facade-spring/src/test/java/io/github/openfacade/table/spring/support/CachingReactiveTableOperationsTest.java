@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.api.anno.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+class CachingReactiveTableOperationsTest {
+    private static final Condition ID_1 = new ComparisonCondition("id", ComparisonOperator.EQ, 1L);
+
+    @Table(name = "cached_entity")
+    static class CachedEntity {
+    }
+
+    @Test
+    public void testReadThroughAndInvalidate() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        CachedEntity entity = new CachedEntity();
+        stub.finder = condition -> entity;
+        CachingReactiveTableOperations operations = new CachingReactiveTableOperations(stub,
+                Map.of("cached_entity", new EntityCacheSpec(100, Duration.ofMinutes(1))));
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertSame(entity, operations.find(ID_1, CachedEntity.class).block());
+        }
+        Assertions.assertEquals(1, stub.findCalls.get());
+        Assertions.assertEquals(9, operations.getHitCount());
+        Assertions.assertEquals(1, operations.getMissCount());
+        Assertions.assertEquals(1, operations.getLoadCount());
+
+        operations.delete(ID_1, CachedEntity.class).block();
+        operations.find(ID_1, CachedEntity.class).block();
+        Assertions.assertEquals(2, stub.findCalls.get());
+    }
+
+    @Test
+    public void testCachesEmptyResults() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        CachingReactiveTableOperations operations = new CachingReactiveTableOperations(stub,
+                Map.of("cached_entity", new EntityCacheSpec(100, Duration.ofMinutes(1))));
+
+        Assertions.assertNull(operations.find(ID_1, CachedEntity.class).block());
+        Assertions.assertNull(operations.find(ID_1, CachedEntity.class).block());
+        Assertions.assertEquals(1, stub.findCalls.get());
+    }
+
+    @Test
+    public void testUncachedTable() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        CachingReactiveTableOperations operations = new CachingReactiveTableOperations(stub, Map.of());
+
+        operations.find(ID_1, CachedEntity.class).block();
+        operations.find(ID_1, CachedEntity.class).block();
+        Assertions.assertEquals(2, stub.findCalls.get());
+        Assertions.assertEquals(0, operations.getMissCount());
+    }
+
+    @Test
+    public void testStreamingReadsBypassCache() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        CachingReactiveTableOperations operations = new CachingReactiveTableOperations(stub,
+                Map.of("cached_entity", new EntityCacheSpec(100, Duration.ofMinutes(1))));
+
+        operations.findAll(CachedEntity.class).collectList().block();
+        operations.findAll(CachedEntity.class).collectList().block();
+        Assertions.assertEquals(0, operations.getMissCount());
+        Assertions.assertEquals(0, operations.getHitCount());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CoalescingReactiveTableOperationsTest {
+
+    @Test
+    public void testFlushWhenFull() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        CoalescingReactiveTableOperations operations =
+                new CoalescingReactiveTableOperations(stub, Duration.ofMinutes(1), 3);
+
+        List<String> inserted = Flux.range(0, 6)
+                .flatMap(i -> operations.insert("row" + i))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(6, inserted.size());
+        Assertions.assertEquals(2, stub.insertBatches.size());
+        Assertions.assertEquals(3, stub.insertBatches.get(0).size());
+        Assertions.assertEquals(2, operations.getFlushCount());
+        Assertions.assertEquals(6, operations.getFlushedRows());
+        Assertions.assertEquals(3, operations.getMaxFlushRows());
+    }
+
+    @Test
+    public void testFlushAfterWindow() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        CoalescingReactiveTableOperations operations =
+                new CoalescingReactiveTableOperations(stub, Duration.ofMillis(20), 100);
+
+        List<Object> inserted = Flux.merge(operations.insert("a"), operations.insert("b"), operations.insert(1L))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(3, inserted.size());
+        // one batch per entity type
+        Assertions.assertEquals(2, stub.insertBatches.size());
+        Assertions.assertTrue(operations.getMaxQueueWaitNanos() >= Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    public void testBatchErrorFailsEveryCaller() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        stub.insertError = new IllegalStateException("duplicate key");
+        CoalescingReactiveTableOperations operations =
+                new CoalescingReactiveTableOperations(stub, Duration.ofMinutes(1), 2);
+
+        Mono<String> first = operations.insert("a").cache();
+        first.subscribe(value -> { }, error -> { });
+        Assertions.assertThrows(IllegalStateException.class, () -> operations.insert("b").block(Duration.ofSeconds(5)));
+        Assertions.assertThrows(IllegalStateException.class, () -> first.block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testFlushRunsInTransaction() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        AtomicInteger transactions = new AtomicInteger();
+        TransactionalOperator transactionalOperator = new TransactionalOperator() {
+            @Override
+            public <T> Mono<T> transactional(Mono<T> mono) {
+                return execute(status -> mono).singleOrEmpty();
+            }
+
+            @Override
+            public <T> Flux<T> execute(TransactionCallback<T> action) throws TransactionException {
+                return Flux.defer(() -> {
+                    transactions.incrementAndGet();
+                    Publisher<T> publisher = action.doInTransaction(null);
+                    return Flux.from(publisher);
+                });
+            }
+        };
+        CoalescingReactiveTableOperations operations =
+                new CoalescingReactiveTableOperations(stub, Duration.ofMinutes(1), 2, transactionalOperator);
+
+        Flux.merge(operations.insert("a"), operations.insert("b")).collectList().block(Duration.ofSeconds(5));
+        Assertions.assertEquals(1, transactions.get());
+        Assertions.assertEquals(1, stub.insertBatches.size());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.Condition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.List;
+
+class ReadWriteSplittingReactiveTableOperationsTest {
+    private final Condition condition = new ComparisonCondition("id", ComparisonOperator.EQ, 1L);
+
+    private final StubReactiveTableOperations primary = new StubReactiveTableOperations();
+
+    private final StubReactiveTableOperations first = new StubReactiveTableOperations();
+
+    private final StubReactiveTableOperations second = new StubReactiveTableOperations();
+
+    @Test
+    public void testReadsAreSpreadRoundRobin() {
+        ReadWriteSplittingReactiveTableOperations operations = new ReadWriteSplittingReactiveTableOperations(
+                primary, List.of(first, second), ReplicaBalancing.ROUND_ROBIN, Duration.ZERO);
+        for (int i = 0; i < 4; i++) {
+            operations.find(condition, String.class).block();
+        }
+        operations.insert("written").block();
+        operations.find(condition, String.class).block();
+
+        Assertions.assertEquals(0, primary.findCalls.get());
+        Assertions.assertEquals(3, first.findCalls.get());
+        Assertions.assertEquals(2, second.findCalls.get());
+        Assertions.assertEquals(1, primary.insertBatches.size());
+        Assertions.assertEquals(5, operations.getReplicaReadCount());
+    }
+
+    @Test
+    public void testLeastOutstandingAvoidsBusyReplica() {
+        ReadWriteSplittingReactiveTableOperations operations = new ReadWriteSplittingReactiveTableOperations(
+                primary, List.of(first, second), ReplicaBalancing.LEAST_OUTSTANDING, Duration.ZERO);
+        first.findDelay = Duration.ofSeconds(10);
+        Disposable busy = operations.find(condition, String.class).subscribe();
+        for (int i = 0; i < 3; i++) {
+            operations.find(condition, String.class).block();
+        }
+        busy.dispose();
+
+        Assertions.assertEquals(0, first.findCalls.get());
+        Assertions.assertEquals(3, second.findCalls.get());
+    }
+
+    @Test
+    public void testReadsFollowWritesToPrimaryWithinWindow() {
+        ReadWriteSplittingReactiveTableOperations operations = new ReadWriteSplittingReactiveTableOperations(
+                primary, List.of(first), ReplicaBalancing.ROUND_ROBIN, Duration.ofMinutes(1));
+        operations.find(condition, String.class).block();
+        operations.update(condition, new Object[]{"name", "value"}, String.class).block();
+        operations.find(condition, String.class).block();
+        operations.find(condition, Integer.class).block();
+
+        Assertions.assertEquals(1, primary.findCalls.get());
+        Assertions.assertEquals(2, first.findCalls.get());
+        Assertions.assertEquals(1, operations.getPrimaryReadCount());
+    }
+}
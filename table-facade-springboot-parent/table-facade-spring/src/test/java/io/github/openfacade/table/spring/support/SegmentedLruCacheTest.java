@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+class SegmentedLruCacheTest {
+    private final AtomicLong now = new AtomicLong();
+
+    private final LongAdder evictions = new LongAdder();
+
+    @Test
+    public void testScanDoesNotEvictHotEntries() {
+        SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(5, 100, now::get, evictions);
+        long generation = cache.generation();
+        for (String key : new String[]{"a", "b", "c"}) {
+            cache.put(key, key, generation);
+            cache.get(key);
+        }
+        for (int i = 0; i < 10; i++) {
+            cache.put("scan" + i, "scan", generation);
+        }
+
+        Assertions.assertEquals("a", cache.get("a"));
+        Assertions.assertEquals("b", cache.get("b"));
+        Assertions.assertEquals("c", cache.get("c"));
+        Assertions.assertEquals(5, cache.size());
+        Assertions.assertEquals(8, evictions.sum());
+    }
+
+    @Test
+    public void testExpiry() {
+        SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(5, 100, now::get, evictions);
+        cache.put("a", "a", cache.generation());
+        now.set(99);
+        Assertions.assertEquals("a", cache.get("a"));
+        now.set(100);
+        Assertions.assertNull(cache.get("a"));
+    }
+
+    @Test
+    public void testClearDropsStaleLoads() {
+        SegmentedLruCache<String, String> cache = new SegmentedLruCache<>(5, 100, now::get, evictions);
+        long generation = cache.generation();
+        cache.put("a", "a", generation);
+        cache.clear();
+        cache.put("b", "b", generation);
+        Assertions.assertNull(cache.get("a"));
+        Assertions.assertNull(cache.get("b"));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.Condition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+class SingleflightReactiveTableOperationsTest {
+    private static final Condition A = new ComparisonCondition("a", ComparisonOperator.EQ, 1);
+
+    private static final Condition B = new ComparisonCondition("b", ComparisonOperator.EQ, 2);
+
+    @Test
+    public void testConcurrentFindsShareQuery() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        stub.finder = condition -> "row";
+        stub.findDelay = Duration.ofMillis(50);
+        SingleflightReactiveTableOperations operations = new SingleflightReactiveTableOperations(stub);
+
+        List<String> found = Flux.range(0, 20)
+                .flatMap(i -> operations.find(i % 2 == 0 ? new AndCondition(A, B) : new AndCondition(B, A), String.class))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        Assertions.assertEquals(20, found.size());
+        Assertions.assertEquals(1, stub.findCalls.get());
+        Assertions.assertEquals(1, operations.getQueryCount());
+        Assertions.assertEquals(19, operations.getJoinedCount());
+
+        operations.find(A, String.class).block(Duration.ofSeconds(5));
+        Assertions.assertEquals(2, stub.findCalls.get());
+    }
+
+    @Test
+    public void testWriteDropsInFlightQuery() {
+        StubReactiveTableOperations stub = new StubReactiveTableOperations();
+        stub.finder = condition -> "row";
+        stub.findDelay = Duration.ofMillis(200);
+        SingleflightReactiveTableOperations operations = new SingleflightReactiveTableOperations(stub);
+
+        Mono<String> before = operations.find(A, String.class).cache();
+        before.subscribe();
+        operations.update(A, new Object[]{"a", 3}, String.class).block(Duration.ofSeconds(5));
+        String after = operations.find(A, String.class).block(Duration.ofSeconds(5));
+
+        Assertions.assertEquals("row", after);
+        Assertions.assertEquals("row", before.block(Duration.ofSeconds(5)));
+        Assertions.assertEquals(2, stub.findCalls.get());
+        Assertions.assertEquals(0, operations.getJoinedCount());
+    }
+}
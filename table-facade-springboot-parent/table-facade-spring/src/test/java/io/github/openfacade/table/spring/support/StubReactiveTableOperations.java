@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.reactive.api.BatchOptions;
+import io.github.openfacade.table.reactive.api.ReactiveTableOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Records the calls decorators make, answering writes with their row counts.
+ */
+class StubReactiveTableOperations implements ReactiveTableOperations {
+    final List<List<Object>> insertBatches = new CopyOnWriteArrayList<>();
+
+    RuntimeException insertError;
+
+    final AtomicInteger findCalls = new AtomicInteger();
+
+    Function<Condition, Object> finder = condition -> null;
+
+    Duration findDelay = Duration.ZERO;
+
+    final List<Condition> findAllConditions = new CopyOnWriteArrayList<>();
+
+    Function<Condition, List<?>> allFinder = condition -> List.of();
+
+    @Override
+    public <T> Mono<T> insert(T object) {
+        insertBatches.add(List.of(object));
+        return Mono.just(object);
+    }
+
+    @Override
+    public <T> Flux<Long> insertAll(Flux<T> objects, BatchOptions options) {
+        return objects.collectList().flatMapMany(batch -> {
+            if (insertError != null) {
+                return Flux.error(insertError);
+            }
+            insertBatches.add(List.copyOf(batch));
+            return Flux.just((long) batch.size());
+        });
+    }
+
+    @Override
+    public <T> Flux<Long> upsertAll(Flux<T> objects, List<String> updateColumns, BatchOptions options) {
+        return objects.count().flux();
+    }
+
+    @Override
+    public <T> Mono<Long> update(Condition condition, Object[] pairs, Class<T> type) {
+        return Mono.just(1L);
+    }
+
+    @Override
+    public <T> Mono<T> find(Condition condition, Class<T> type) {
+        return Mono.defer(() -> {
+            findCalls.incrementAndGet();
+            return Mono.justOrEmpty(finder.apply(condition)).map(type::cast);
+        }).delaySubscription(findDelay);
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type) {
+        return Flux.empty();
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Class<T> type, int fetchSize) {
+        return Flux.empty();
+    }
+
+    @Override
+    public <T> Flux<T> findAll(Condition condition, Class<T> type) {
+        return Flux.defer(() -> {
+            findAllConditions.add(condition);
+            return Flux.fromIterable(allFinder.apply(condition)).map(type::cast);
+        });
+    }
+
+    @Override
+    public <T> Flux<T> scan(Condition condition, Class<T> type, String keyColumn, int pageSize) {
+        return Flux.empty();
+    }
+
+    @Override
+    public <T> Mono<Long> delete(Condition condition, Class<T> type) {
+        return Mono.just(1L);
+    }
+
+    @Override
+    public <T> Mono<Long> deleteAll(Class<T> type) {
+        return Mono.just(0L);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.spring.support;
+
+import io.github.openfacade.table.api.anno.Column;
+import io.github.openfacade.table.api.anno.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+class TableExporterTest {
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Table(name = "exported_entity")
+    public static class ExportedEntity {
+        @Column(name = "id")
+        private Long id;
+
+        @Column(name = "name")
+        private String name;
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testCsvIsQuotedWhereNeeded() throws IOException {
+        TableExporter exporter = new TableExporter(new StubReactiveTableOperations());
+        Path path = directory.resolve("entities.csv");
+
+        ExportResult result = exporter.export(Flux.just(new ExportedEntity(1L, "plain"),
+                        new ExportedEntity(2L, "with \"quotes\", comma"), new ExportedEntity(3L, null)),
+                ExportedEntity.class, path, ExportFormat.CSV, false).block();
+
+        Assertions.assertEquals("id,name\r\n1,plain\r\n2,\"with \"\"quotes\"\", comma\"\r\n3,\r\n",
+                Files.readString(path));
+        Assertions.assertEquals(3, result.getRows());
+        Assertions.assertEquals(Files.size(path), result.getBytes());
+        Assertions.assertEquals(3, exporter.getExportedRows());
+    }
+
+    @Test
+    public void testNdjsonThroughGzip() throws IOException {
+        TableExporter exporter = new TableExporter(new StubReactiveTableOperations(),
+                Schedulers.boundedElastic(), 16);
+        Path path = directory.resolve("entities.ndjson.gz");
+
+        StringBuilder expected = new StringBuilder();
+        Flux<ExportedEntity> rows = Flux.range(0, 1000).map(i -> new ExportedEntity((long) i, "line\n" + i));
+        for (int i = 0; i < 1000; i++) {
+            expected.append("{\"id\":").append(i).append(",\"name\":\"line\\n").append(i).append("\"}\n");
+        }
+        ExportResult result = exporter.export(rows, ExportedEntity.class, path, ExportFormat.NDJSON, true).block();
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+            Assertions.assertEquals(expected.toString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertEquals(1000, result.getRows());
+        Assertions.assertEquals(expected.length(), result.getBytes());
+        Assertions.assertEquals(Files.size(path), result.getFileBytes());
+        Assertions.assertTrue(result.getFileBytes() < result.getBytes());
+    }
+}
@@ -16,19 +16,93 @@
 
 package io.github.openfacade.table.spring.util;
 
+import io.github.openfacade.table.api.anno.Column;
+import io.github.openfacade.table.spring.core.ColumnAccessor;
 import io.github.openfacade.table.spring.core.TableMetadata;
+import lombok.Getter;
+import lombok.Setter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.relational.core.mapping.Table;
 
+import java.util.List;
+
 class TableMetadataUtilTest {
+    @Getter
+    @Setter
     @Table("table")
-    static class EntityTest {
+    public static class EntityTest {
+        @org.springframework.data.relational.core.mapping.Column("spring_name")
+        private String name;
+    }
+
+    @Getter
+    @Setter
+    @io.github.openfacade.table.api.anno.Table(name = "accessor_table")
+    public static class AccessorEntity {
+        @Column(name = "id")
+        private long id;
+
+        @Column(name = "enabled")
+        private boolean enabled;
+
+        @Column(name = "name")
+        private String name;
     }
 
     @Test
     public void testSpringTableNameParseCorrect() {
         TableMetadata tableMetadata = TableMetadataUtil.parseClass(EntityTest.class);
         Assertions.assertEquals("table", tableMetadata.getTableName());
+        Assertions.assertEquals(List.of("spring_name"), List.copyOf(tableMetadata.getColumnMap().keySet()));
+    }
+
+    @Test
+    public void testColumnAccessorsReadAndWrite() {
+        TableMetadata tableMetadata = TableMetadataUtil.parseClass(AccessorEntity.class);
+        Assertions.assertEquals(List.of("id", "enabled", "name"), List.copyOf(tableMetadata.getColumnMap().keySet()));
+
+        Object instance = tableMetadata.getInstantiator().get();
+        Assertions.assertInstanceOf(AccessorEntity.class, instance);
+
+        ColumnAccessor id = tableMetadata.getColumnMap().get("id");
+        ColumnAccessor enabled = tableMetadata.getColumnMap().get("enabled");
+        ColumnAccessor name = tableMetadata.getColumnMap().get("name");
+        Assertions.assertEquals(long.class, id.getFieldType());
+
+        id.set(instance, 7L);
+        enabled.set(instance, true);
+        name.set(instance, "facade");
+
+        AccessorEntity entity = (AccessorEntity) instance;
+        Assertions.assertEquals(7L, entity.getId());
+        Assertions.assertTrue(entity.isEnabled());
+        Assertions.assertEquals("facade", entity.getName());
+        Assertions.assertEquals(7L, id.get(entity));
+        Assertions.assertEquals(true, enabled.get(entity));
+        Assertions.assertEquals("facade", name.get(entity));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedMethodMaps() {
+        TableMetadata tableMetadata = TableMetadataUtil.parseClass(AccessorEntity.class);
+        Assertions.assertEquals("setName", tableMetadata.getSetterMap().get("name").getName());
+        Assertions.assertEquals("isEnabled", tableMetadata.getGetterMap().get("enabled").getName());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedMethodMapConstructor() {
+        TableMetadata parsed = TableMetadataUtil.parseClass(AccessorEntity.class);
+        TableMetadata tableMetadata = new TableMetadata("accessor_table", parsed.getSetterMap(), parsed.getGetterMap());
+        Assertions.assertEquals(List.of("id", "enabled", "name"), List.copyOf(tableMetadata.getColumnMap().keySet()));
+
+        Object instance = tableMetadata.getInstantiator().get();
+        Assertions.assertInstanceOf(AccessorEntity.class, instance);
+        tableMetadata.getColumnMap().get("id").set(instance, 7L);
+        tableMetadata.getColumnMap().get("name").set(instance, "facade");
+        Assertions.assertArrayEquals(new Object[]{7L, false, "facade"}, tableMetadata.columnValues(instance));
+        Assertions.assertEquals("setName", tableMetadata.getSetterMap().get("name").getName());
     }
 }
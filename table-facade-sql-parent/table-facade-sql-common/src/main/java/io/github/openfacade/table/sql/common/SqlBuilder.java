@@ -16,6 +16,8 @@
 
 package io.github.openfacade.table.sql.common;
 
+import java.util.List;
+
 public class SqlBuilder {
     private final StringBuilder sql;
 
@@ -40,6 +42,55 @@ public class SqlBuilder {
         return this;
     }
 
+    public SqlBuilder identifiers(List<String> identifiers) {
+        for (int i = 0; i < identifiers.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            identifier(identifiers.get(i));
+        }
+        return this;
+    }
+
+    public SqlBuilder placeholders(int count) {
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append('?');
+        }
+        return this;
+    }
+
+    /**
+     * Appends {@code `a` = ?, `b` = ?} for the given columns.
+     */
+    public SqlBuilder assignments(List<String> identifiers) {
+        for (int i = 0; i < identifiers.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            identifier(identifiers.get(i)).sql.append(" = ?");
+        }
+        return this;
+    }
+
+    /**
+     * Appends {@code `a` = prefix`a`suffix, ...}, assigning each column from an expression over itself.
+     */
+    public SqlBuilder assignments(List<String> identifiers, String valuePrefix, String valueSuffix) {
+        for (int i = 0; i < identifiers.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            identifier(identifiers.get(i));
+            sql.append(" = ").append(valuePrefix);
+            identifier(identifiers.get(i));
+            sql.append(valueSuffix);
+        }
+        return this;
+    }
+
     public String build() {
         return sql.toString();
     }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.sql.common;
+
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.BetweenCondition;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.Condition;
+import io.github.openfacade.table.api.InCondition;
+import io.github.openfacade.table.api.IsNullCondition;
+import io.github.openfacade.table.api.OrCondition;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A condition rendered as a parameterized SQL fragment. The fragment only depends on the condition shape
+ * (columns and operators), so equal fragments can share one prepared statement; the values are bound to its
+ * placeholders in order.
+ */
+@Getter
+public class SqlCondition {
+    private final String sql;
+
+    private final List<Object> values;
+
+    public SqlCondition(String sql, List<Object> values) {
+        this.sql = sql;
+        this.values = values;
+    }
+
+    public static SqlCondition render(Condition condition, char quote) {
+        SqlBuilder sqlBuilder = new SqlBuilder().quote(quote);
+        List<Object> values = new ArrayList<>();
+        render(condition, sqlBuilder, values);
+        return new SqlCondition(sqlBuilder.build(), values.isEmpty() ? Collections.emptyList() : values);
+    }
+
+    private static void render(Condition condition, SqlBuilder sqlBuilder, List<Object> values) {
+        if (condition instanceof ComparisonCondition) {
+            ComparisonCondition comparisonCondition = (ComparisonCondition) condition;
+            sqlBuilder.identifier(comparisonCondition.getColumn())
+                    .keyword(" ")
+                    .keyword(comparisonCondition.getOperator().symbol());
+            if (comparisonCondition.getValue() == null) {
+                // keep the null literal, comparing with a bound null has the same result but needs a typed bind
+                sqlBuilder.keyword(" NULL");
+            } else {
+                sqlBuilder.keyword(" ?");
+                values.add(comparisonCondition.getValue());
+            }
+        } else if (condition instanceof AndCondition) {
+            junction(((AndCondition) condition).getConditions(), " AND ", sqlBuilder, values);
+        } else if (condition instanceof OrCondition) {
+            junction(((OrCondition) condition).getConditions(), " OR ", sqlBuilder, values);
+        } else if (condition instanceof InCondition) {
+            InCondition inCondition = (InCondition) condition;
+            // a null member never matches, so leave it out rather than binding an untyped null
+            List<Object> inValues = new ArrayList<>(inCondition.getValues().size());
+            for (Object value : inCondition.getValues()) {
+                if (value != null) {
+                    inValues.add(value);
+                }
+            }
+            if (inValues.isEmpty()) {
+                sqlBuilder.keyword("1 = 0");
+                return;
+            }
+            // pad to the next power of two with the last value, so list lengths share a few statement shapes
+            int size = inValues.size() == 1 ? 1 : Integer.highestOneBit(inValues.size() - 1) << 1;
+            sqlBuilder.identifier(inCondition.getColumn())
+                    .keyword(" IN (")
+                    .placeholders(size)
+                    .keyword(")");
+            values.addAll(inValues);
+            for (int i = inValues.size(); i < size; i++) {
+                values.add(inValues.get(inValues.size() - 1));
+            }
+        } else if (condition instanceof BetweenCondition) {
+            BetweenCondition betweenCondition = (BetweenCondition) condition;
+            sqlBuilder.identifier(betweenCondition.getColumn())
+                    .keyword(" BETWEEN ");
+            bound(betweenCondition.getLow(), sqlBuilder, values);
+            sqlBuilder.keyword(" AND ");
+            bound(betweenCondition.getHigh(), sqlBuilder, values);
+        } else if (condition instanceof IsNullCondition) {
+            IsNullCondition isNullCondition = (IsNullCondition) condition;
+            sqlBuilder.identifier(isNullCondition.getColumn())
+                    .keyword(isNullCondition.isNegated() ? " IS NOT NULL" : " IS NULL");
+        } else {
+            throw new IllegalArgumentException("Unsupported condition type: " + condition.getClass().getName());
+        }
+    }
+
+    private static void bound(Object value, SqlBuilder sqlBuilder, List<Object> values) {
+        if (value == null) {
+            sqlBuilder.keyword("NULL");
+        } else {
+            sqlBuilder.keyword("?");
+            values.add(value);
+        }
+    }
+
+    private static void junction(List<Condition> conditions, String operator, SqlBuilder sqlBuilder,
+                                 List<Object> values) {
+        for (int i = 0; i < conditions.size(); i++) {
+            if (i > 0) {
+                sqlBuilder.keyword(operator);
+            }
+            sqlBuilder.keyword("(");
+            render(conditions.get(i), sqlBuilder, values);
+            sqlBuilder.keyword(")");
+        }
+    }
+}
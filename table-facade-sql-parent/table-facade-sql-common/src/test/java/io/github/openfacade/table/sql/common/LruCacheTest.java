@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.sql.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        // 16 stripes of two entries, small integers 0, 16 and 32 land in the same stripe
+        LruCache<Integer, String> cache = new LruCache<>(32);
+        Assertions.assertNull(cache.putIfAbsent(0, "a"));
+        Assertions.assertNull(cache.putIfAbsent(16, "b"));
+        Assertions.assertEquals("a", cache.get(0));
+        Assertions.assertNull(cache.putIfAbsent(32, "c"));
+
+        Assertions.assertEquals("a", cache.get(0));
+        Assertions.assertNull(cache.get(16));
+        Assertions.assertEquals("c", cache.putIfAbsent(32, "d"));
+    }
+
+    @Test
+    public void testBoundedSize() {
+        LruCache<Integer, Integer> cache = new LruCache<>(100);
+        for (int i = 0; i < 10000; i++) {
+            cache.putIfAbsent(i, i);
+        }
+        Assertions.assertEquals(100, cache.size());
+        Assertions.assertEquals(9999, cache.get(9999));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.sql.common;
+
+import io.github.openfacade.table.api.AndCondition;
+import io.github.openfacade.table.api.BetweenCondition;
+import io.github.openfacade.table.api.ComparisonCondition;
+import io.github.openfacade.table.api.ComparisonOperator;
+import io.github.openfacade.table.api.InCondition;
+import io.github.openfacade.table.api.IsNullCondition;
+import io.github.openfacade.table.api.OrCondition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+class SqlConditionTest {
+    @Test
+    public void testComparisonIsParameterized() {
+        SqlCondition first = SqlCondition.render(new ComparisonCondition("name", ComparisonOperator.EQ, "a'b"), '`');
+        SqlCondition second = SqlCondition.render(new ComparisonCondition("name", ComparisonOperator.EQ, "c"), '`');
+        Assertions.assertEquals("`name` = ?", first.getSql());
+        Assertions.assertEquals(first.getSql(), second.getSql());
+        Assertions.assertEquals(Collections.singletonList("a'b"), first.getValues());
+    }
+
+    @Test
+    public void testNullValueIsNotBound() {
+        SqlCondition condition = SqlCondition.render(new ComparisonCondition("age", ComparisonOperator.GT, null), '`');
+        Assertions.assertEquals("`age` > NULL", condition.getSql());
+        Assertions.assertTrue(condition.getValues().isEmpty());
+    }
+
+    @Test
+    public void testComposite() {
+        SqlCondition condition = SqlCondition.render(new AndCondition(
+                new ComparisonCondition("tenant", ComparisonOperator.EQ, 1),
+                new OrCondition(new IsNullCondition("deleted"), new BetweenCondition("age", 18, 30))), '`');
+        Assertions.assertEquals("(`tenant` = ?) AND ((`deleted` IS NULL) OR (`age` BETWEEN ? AND ?))", condition.getSql());
+        Assertions.assertEquals(Arrays.asList(1, 18, 30), condition.getValues());
+    }
+
+    @Test
+    public void testInPaddedToPowerOfTwo() {
+        SqlCondition condition = SqlCondition.render(new InCondition("id", Arrays.asList(1, 2, 3)), '`');
+        Assertions.assertEquals("`id` IN (?, ?, ?, ?)", condition.getSql());
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 3), condition.getValues());
+
+        SqlCondition single = SqlCondition.render(new InCondition("id", Collections.singletonList(1)), '`');
+        Assertions.assertEquals("`id` IN (?)", single.getSql());
+    }
+
+    @Test
+    public void testEmptyInMatchesNothing() {
+        SqlCondition condition = SqlCondition.render(new InCondition("id", Collections.emptyList()), '`');
+        Assertions.assertEquals("1 = 0", condition.getSql());
+        Assertions.assertTrue(condition.getValues().isEmpty());
+    }
+
+    @Test
+    public void testNullInMembersAndBoundsAreNotBound() {
+        SqlCondition in = SqlCondition.render(new InCondition("id", Arrays.asList(1, null, 2)), '`');
+        Assertions.assertEquals("`id` IN (?, ?)", in.getSql());
+        Assertions.assertEquals(Arrays.asList(1, 2), in.getValues());
+
+        SqlCondition onlyNull = SqlCondition.render(new InCondition("id", Collections.singletonList(null)), '`');
+        Assertions.assertEquals("1 = 0", onlyNull.getSql());
+
+        SqlCondition between = SqlCondition.render(new BetweenCondition("age", 18, null), '`');
+        Assertions.assertEquals("`age` BETWEEN ? AND NULL", between.getSql());
+        Assertions.assertEquals(Collections.singletonList(18), between.getValues());
+    }
+}
@@ -18,10 +18,12 @@ package io.github.openfacade.table.sql.mysql;
 
 import io.github.openfacade.table.sql.common.SqlBuilder;
 
+import java.util.List;
+
 public class MysqlSqlUtil {
     public static String dropTable(String tableName) {
         SqlBuilder sqlBuilder = new SqlBuilder()
-                .keyword("DROP TABLE")
+                .keyword("DROP TABLE ")
                 .quote('`')
                 .identifier(tableName);
         return sqlBuilder.build();
@@ -29,7 +31,7 @@ public class MysqlSqlUtil {
 
     public static String dropTableIfExists(String tableName) {
         SqlBuilder sqlBuilder = new SqlBuilder()
-                .keyword("DROP TABLE IF EXISTS")
+                .keyword("DROP TABLE IF EXISTS ")
                 .quote('`')
                 .identifier(tableName);
         return sqlBuilder.build();
@@ -37,7 +39,7 @@ public class MysqlSqlUtil {
 
     public static String deleteAll(String tableName) {
         SqlBuilder sqlBuilder = new SqlBuilder()
-                .keyword("DELETE FROM")
+                .keyword("DELETE FROM ")
                 .quote('`')
                 .identifier(tableName);
         return sqlBuilder.build();
@@ -45,9 +47,138 @@ public class MysqlSqlUtil {
 
     public static String count(String tableName) {
         SqlBuilder sqlBuilder = new SqlBuilder()
-                .keyword("SELECT COUNT(*) FROM")
+                .keyword("SELECT COUNT(*) FROM ")
+                .quote('`')
+                .identifier(tableName);
+        return sqlBuilder.build();
+    }
+
+    public static String insert(String tableName, List<String> columns) {
+        return insertBuilder(tableName, columns).build();
+    }
+
+    /**
+     * Multi-row insert, {@code rows} groups of placeholders for the same columns.
+     */
+    public static String insert(String tableName, List<String> columns, int rows) {
+        SqlBuilder sqlBuilder = insertBuilder(tableName, columns);
+        for (int i = 1; i < rows; i++) {
+            sqlBuilder.keyword(", (")
+                    .placeholders(columns.size())
+                    .keyword(")");
+        }
+        return sqlBuilder.build();
+    }
+
+    public static String insertOnDuplicateKeyUpdate(String tableName, List<String> columns, List<String> updateColumns) {
+        return insertBuilder(tableName, columns)
+                .keyword(" ON DUPLICATE KEY UPDATE ")
+                .assignments(updateColumns)
+                .build();
+    }
+
+    /**
+     * Multi-row upsert taking the new values of {@code updateColumns} from the inserted row,
+     * {@code `a` = VALUES(`a`)}.
+     */
+    public static String insertOnDuplicateKeyUpdateValues(String tableName, List<String> columns, int rows,
+                                                          List<String> updateColumns) {
+        return insert(tableName, columns, rows)
+                + new SqlBuilder()
+                .keyword(" ON DUPLICATE KEY UPDATE ")
+                .quote('`')
+                .assignments(updateColumns, "VALUES(", ")")
+                .build();
+    }
+
+    /**
+     * Multi-row upsert in the openGauss form, {@code `a` = EXCLUDED.`a`}.
+     */
+    public static String insertOnDuplicateKeyUpdateExcluded(String tableName, List<String> columns, int rows,
+                                                            List<String> updateColumns) {
+        return insert(tableName, columns, rows)
+                + new SqlBuilder()
+                .keyword(" ON DUPLICATE KEY UPDATE ")
+                .quote('`')
+                .assignments(updateColumns, "EXCLUDED.", "")
+                .build();
+    }
+
+    public static String select(String tableName, List<String> columns) {
+        SqlBuilder sqlBuilder = new SqlBuilder()
+                .keyword("SELECT ")
+                .quote('`')
+                .identifiers(columns)
+                .keyword(" FROM ")
+                .identifier(tableName);
+        return sqlBuilder.build();
+    }
+
+    public static String selectMinMax(String tableName, String column) {
+        SqlBuilder sqlBuilder = new SqlBuilder()
+                .keyword("SELECT MIN(")
                 .quote('`')
+                .identifier(column)
+                .keyword("), MAX(")
+                .identifier(column)
+                .keyword(") FROM ")
                 .identifier(tableName);
         return sqlBuilder.build();
     }
+
+    /**
+     * {@code SELECT ... [WHERE where] ORDER BY orderColumn LIMIT ?}, the where fragment is appended as is.
+     */
+    public static String selectOrderByLimit(String tableName, List<String> columns, String where, String orderColumn) {
+        SqlBuilder sqlBuilder = new SqlBuilder()
+                .keyword("SELECT ")
+                .quote('`')
+                .identifiers(columns)
+                .keyword(" FROM ")
+                .identifier(tableName);
+        if (where != null) {
+            sqlBuilder.keyword(" WHERE ").keyword(where);
+        }
+        return sqlBuilder.keyword(" ORDER BY ")
+                .identifier(orderColumn)
+                .keyword(" LIMIT ?")
+                .build();
+    }
+
+    public static String update(String tableName, List<String> columns) {
+        SqlBuilder sqlBuilder = new SqlBuilder()
+                .keyword("UPDATE ")
+                .quote('`')
+                .identifier(tableName)
+                .keyword(" SET ")
+                .assignments(columns);
+        return sqlBuilder.build();
+    }
+
+    /**
+     * {@code LOAD DATA LOCAL INFILE} in the default tab separated format, the file name is a placeholder for a
+     * stream the client supplies.
+     */
+    public static String loadDataLocalInfile(String tableName, List<String> columns) {
+        SqlBuilder sqlBuilder = new SqlBuilder()
+                .keyword("LOAD DATA LOCAL INFILE 'stream' INTO TABLE ")
+                .quote('`')
+                .identifier(tableName)
+                .keyword(" CHARACTER SET utf8mb4 (")
+                .identifiers(columns)
+                .keyword(")");
+        return sqlBuilder.build();
+    }
+
+    private static SqlBuilder insertBuilder(String tableName, List<String> columns) {
+        return new SqlBuilder()
+                .keyword("INSERT INTO ")
+                .quote('`')
+                .identifier(tableName)
+                .keyword(" (")
+                .identifiers(columns)
+                .keyword(") VALUES (")
+                .placeholders(columns.size())
+                .keyword(")");
+    }
 }
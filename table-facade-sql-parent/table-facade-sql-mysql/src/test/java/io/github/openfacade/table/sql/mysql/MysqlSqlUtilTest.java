@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 OpenFacade Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.openfacade.table.sql.mysql;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+class MysqlSqlUtilTest {
+    @Test
+    public void testInsert() {
+        Assertions.assertEquals("INSERT INTO `user` (`id`, `name`) VALUES (?, ?)",
+                MysqlSqlUtil.insert("user", Arrays.asList("id", "name")));
+    }
+
+    @Test
+    public void testInsertMultipleRows() {
+        Assertions.assertEquals("INSERT INTO `user` (`id`, `name`) VALUES (?, ?), (?, ?), (?, ?)",
+                MysqlSqlUtil.insert("user", Arrays.asList("id", "name"), 3));
+    }
+
+    @Test
+    public void testInsertOnDuplicateKeyUpdate() {
+        Assertions.assertEquals("INSERT INTO `user` (`id`, `name`) VALUES (?, ?) ON DUPLICATE KEY UPDATE `name` = ?",
+                MysqlSqlUtil.insertOnDuplicateKeyUpdate("user", Arrays.asList("id", "name"), Collections.singletonList("name")));
+    }
+
+    @Test
+    public void testInsertOnDuplicateKeyUpdateMultipleRows() {
+        Assertions.assertEquals("INSERT INTO `user` (`id`, `name`) VALUES (?, ?), (?, ?) ON DUPLICATE KEY UPDATE `name` = VALUES(`name`)",
+                MysqlSqlUtil.insertOnDuplicateKeyUpdateValues("user", Arrays.asList("id", "name"), 2, Collections.singletonList("name")));
+        Assertions.assertEquals("INSERT INTO `user` (`id`, `name`) VALUES (?, ?), (?, ?) ON DUPLICATE KEY UPDATE `name` = EXCLUDED.`name`",
+                MysqlSqlUtil.insertOnDuplicateKeyUpdateExcluded("user", Arrays.asList("id", "name"), 2, Collections.singletonList("name")));
+    }
+
+    @Test
+    public void testSelect() {
+        Assertions.assertEquals("SELECT `id`, `name` FROM `user`", MysqlSqlUtil.select("user", Arrays.asList("id", "name")));
+    }
+
+    @Test
+    public void testSelectMinMax() {
+        Assertions.assertEquals("SELECT MIN(`id`), MAX(`id`) FROM `user`", MysqlSqlUtil.selectMinMax("user", "id"));
+    }
+
+    @Test
+    public void testSelectOrderByLimit() {
+        Assertions.assertEquals("SELECT `id`, `name` FROM `user` ORDER BY `id` LIMIT ?",
+                MysqlSqlUtil.selectOrderByLimit("user", Arrays.asList("id", "name"), null, "id"));
+        Assertions.assertEquals("SELECT `id`, `name` FROM `user` WHERE `id` > ? ORDER BY `id` LIMIT ?",
+                MysqlSqlUtil.selectOrderByLimit("user", Arrays.asList("id", "name"), "`id` > ?", "id"));
+    }
+
+    @Test
+    public void testUpdate() {
+        Assertions.assertEquals("UPDATE `user` SET `name` = ?, `age` = ?", MysqlSqlUtil.update("user", Arrays.asList("name", "age")));
+    }
+
+    @Test
+    public void testDeleteAll() {
+        Assertions.assertEquals("DELETE FROM `user`", MysqlSqlUtil.deleteAll("user"));
+    }
+
+    @Test
+    public void testLoadDataLocalInfile() {
+        Assertions.assertEquals("LOAD DATA LOCAL INFILE 'stream' INTO TABLE `user` CHARACTER SET utf8mb4 (`id`, `name`)",
+                MysqlSqlUtil.loadDataLocalInfile("user", Arrays.asList("id", "name")));
+    }
+}